@@ -0,0 +1,36 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.util.Bulkhead;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Separate bulkheads for upstream reads and writes, so a burst of slow writes cannot starve reads and the reverse.
+ * Each also sizes its own connection pool in {@link com.reliaquest.api.util.RestTemplateUtil}.
+ *
+ * @author Naveen Kumar
+ */
+@Configuration
+public class BulkheadConfig {
+
+    @Bean
+    public Bulkhead readBulkhead(
+            @Value("${mock.api.bulkheads.read.max-concurrent:64}") int maxConcurrent,
+            @Value("${mock.api.bulkheads.read.max-waiting:128}") int maxWaiting,
+            @Value("${mock.api.bulkheads.read.max-wait-ms:250}") long maxWaitMillis,
+            MeterRegistry meterRegistry) {
+        return new Bulkhead("read", maxConcurrent, maxWaiting, Duration.ofMillis(maxWaitMillis), meterRegistry);
+    }
+
+    @Bean
+    public Bulkhead writeBulkhead(
+            @Value("${mock.api.bulkheads.write.max-concurrent:16}") int maxConcurrent,
+            @Value("${mock.api.bulkheads.write.max-waiting:32}") int maxWaiting,
+            @Value("${mock.api.bulkheads.write.max-wait-ms:2000}") long maxWaitMillis,
+            MeterRegistry meterRegistry) {
+        return new Bulkhead("write", maxConcurrent, maxWaiting, Duration.ofMillis(maxWaitMillis), meterRegistry);
+    }
+}
@@ -15,7 +15,12 @@ public class CacheConfig {
     @Bean
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-                "employees", "employeeSearch", "employeeById", "highestSalary", "top10HighestEarningEmployeeNames");
+                "employees",
+                "employeeSearch",
+                "employeeFuzzySearch",
+                "employeeById",
+                "employeeAggregates",
+                "employeeStats");
         cacheManager.setCaffeine(
                 Caffeine.newBuilder().expireAfterWrite(1, TimeUnit.MINUTES).maximumSize(1000));
         return cacheManager;
@@ -1,12 +1,20 @@
 package com.reliaquest.api.controller;
 
 import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.dto.EmployeeStatsDto;
+import com.reliaquest.api.dto.WriteOperation;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.ResponseBytesCache;
+import com.reliaquest.api.service.WriteQueueService;
+import com.reliaquest.api.util.FieldProjection;
 import jakarta.validation.Valid;
+import java.net.URI;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -25,33 +33,68 @@ import org.springframework.web.bind.annotation.*;
 public class EmployeeController {
 
     private static final Logger log = LoggerFactory.getLogger(EmployeeController.class);
+    private static final String RESPOND_ASYNC = "respond-async";
 
     private final EmployeeService employeeService;
+    private final WriteQueueService writeQueueService;
+    private final FieldProjection fieldProjection;
+    private final ResponseBytesCache responseBytesCache;
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(
+            EmployeeService employeeService,
+            WriteQueueService writeQueueService,
+            FieldProjection fieldProjection,
+            ResponseBytesCache responseBytesCache) {
         this.employeeService = employeeService;
+        this.writeQueueService = writeQueueService;
+        this.fieldProjection = fieldProjection;
+        this.responseBytesCache = responseBytesCache;
     }
 
+    /**
+     * The read endpoints take an optional {@code fields=} list of employee properties and then serialize only those.
+     * Their bodies are kept encoded in the {@link ResponseBytesCache} for as long as the data they came from is cached.
+     */
     @GetMapping()
-    public ResponseEntity<List<EmployeeDto>> getAllEmployees() {
+    public ResponseEntity<byte[]> getAllEmployees(
+            @RequestParam(value = "fields", required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         log.info("GET /api/v1/employee - Fetching all employees");
+        FieldProjection.Projection projection = project(fields);
         List<EmployeeDto> employees = employeeService.getAllEmployees();
-        return ResponseEntity.ok(employees);
+        return responseBytesCache.respond(
+                "employees", parameters(projection), acceptEncoding, () -> projection.write(employees));
     }
 
     @GetMapping("/search/{searchString}")
-    public ResponseEntity<List<EmployeeDto>> getEmployeesByNameSearch(@PathVariable String searchString) {
-        log.info("GET /api/v1/employee/search/{} - Searching employees by name", searchString);
-        List<EmployeeDto> employees = employeeService.searchEmployeesByName(searchString);
-        return ResponseEntity.ok(employees);
+    public ResponseEntity<byte[]> getEmployeesByNameSearch(
+            @PathVariable String searchString,
+            @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy,
+            @RequestParam(value = "fields", required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.info("GET /api/v1/employee/search/{} - Searching employees by name (fuzzy: {})", searchString, fuzzy);
+        FieldProjection.Projection projection = project(fields);
+        List<EmployeeDto> employees = fuzzy
+                ? employeeService.searchEmployeesByNameFuzzy(searchString)
+                : employeeService.searchEmployeesByName(searchString);
+        return responseBytesCache.respond(
+                fuzzy ? "employeeFuzzySearch" : "employeeSearch",
+                parameters(projection),
+                acceptEncoding,
+                () -> projection.write(employees));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeDto> getEmployeeById(@PathVariable String id) {
+    public ResponseEntity<byte[]> getEmployeeById(
+            @PathVariable String id,
+            @RequestParam(value = "fields", required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         log.info("GET /api/v1/employee/{} - Fetching employee by ID", id);
         UUID employeeId = UUID.fromString(id);
+        FieldProjection.Projection projection = project(fields);
         EmployeeDto employee = employeeService.getEmployeeById(employeeId);
-        return ResponseEntity.ok(employee);
+        return responseBytesCache.respond(
+                "employeeById", parameters(projection), acceptEncoding, () -> projection.write(employee));
     }
 
     @GetMapping("/highestSalary")
@@ -68,13 +111,44 @@ public class EmployeeController {
         return ResponseEntity.ok(employeeNames);
     }
 
+    @GetMapping("/stats")
+    public ResponseEntity<EmployeeStatsDto> getEmployeeStats() {
+        log.info("GET /api/v1/employee/stats - Fetching salary and age statistics");
+        EmployeeStatsDto stats = employeeService.getEmployeeStats();
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * With {@code Prefer: respond-async} and asynchronous writes enabled, the create is queued and answered with 202
+     * and the operation to poll; otherwise it runs synchronously as usual. Other preferences may come alongside, as in
+     * {@code Prefer: respond-async, wait=10}, so the header is parsed here rather than matched as a whole.
+     */
     @PostMapping()
-    public ResponseEntity<EmployeeDto> createEmployee(@Valid @RequestBody EmployeeDto employeeInput) {
+    public ResponseEntity<?> createEmployee(
+            @Valid @RequestBody EmployeeDto employeeInput,
+            @RequestHeader(value = "Prefer", required = false) List<String> preferences) {
+        if (prefersRespondAsync(preferences) && writeQueueService.isEnabled()) {
+            log.info("POST /api/v1/employee - Queueing employee with name: {}", employeeInput.getName());
+            WriteOperation operation = writeQueueService.submit(employeeInput);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/employee/operations/" + operation.getId()))
+                    .header("Preference-Applied", RESPOND_ASYNC)
+                    .body(operation);
+        }
         log.info("POST /api/v1/employee - Creating employee with name: {}", employeeInput.getName());
         EmployeeDto createdEmployee = employeeService.createEmployee(employeeInput);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdEmployee);
     }
 
+    @GetMapping("/operations/{operationId}")
+    public ResponseEntity<WriteOperation> getWriteOperation(@PathVariable String operationId) {
+        log.info("GET /api/v1/employee/operations/{} - Fetching write operation status", operationId);
+        return writeQueueService
+                .getOperation(UUID.fromString(operationId))
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteEmployeeById(@PathVariable String id) {
         log.info("DELETE /api/v1/employee/{} - Deleting employee by ID", id);
@@ -82,4 +156,23 @@ public class EmployeeController {
         String employeeName = employeeService.deleteEmployeeById(employeeId);
         return ResponseEntity.ok(employeeName);
     }
+
+    /*
+     * Each preference is a token, optionally with "=value" and ";parameters" (RFC 7240); only the token matters here.
+     */
+    private static boolean prefersRespondAsync(List<String> preferences) {
+        return preferences != null
+                && preferences.stream()
+                        .flatMap(header -> Arrays.stream(header.split(",")))
+                        .map(preference -> preference.split("[=;]", 2)[0].trim())
+                        .anyMatch(RESPOND_ASYNC::equalsIgnoreCase);
+    }
+
+    private FieldProjection.Projection project(String fields) {
+        return fieldProjection.parse(fields).orElse(fieldProjection.full());
+    }
+
+    private static String parameters(FieldProjection.Projection projection) {
+        return String.join(",", projection.getFields());
+    }
 }
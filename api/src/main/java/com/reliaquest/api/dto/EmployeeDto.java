@@ -2,6 +2,7 @@ package com.reliaquest.api.dto;
 
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -87,6 +88,27 @@ public class EmployeeDto implements Serializable {
         this.email = email;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EmployeeDto that)) {
+            return false;
+        }
+        return Objects.equals(id, that.id)
+                && Objects.equals(name, that.name)
+                && Objects.equals(salary, that.salary)
+                && Objects.equals(age, that.age)
+                && Objects.equals(title, that.title)
+                && Objects.equals(email, that.email);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, salary, age, title, email);
+    }
+
     @Override
     public String toString() {
         return "EmployeeDto{" + "id="
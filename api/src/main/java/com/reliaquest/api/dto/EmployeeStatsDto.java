@@ -0,0 +1,33 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Salary and age distributions of one roster version, overall and per title, as computed by the mock API Server.
+ * Percentiles, min and max are within {@code relativeError} of a value at exactly that rank; counts, means and
+ * histogram buckets are exact.
+ *
+ * @author Naveen Kumar
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EmployeeStatsDto(
+        long version, double relativeError, Distribution overall, Map<String, Distribution> titles)
+        implements Serializable {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Distribution(long count, Summary salary, Summary age) implements Serializable {}
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Summary(
+            long count, Double mean, Double min, Double max, Map<String, Double> percentiles, List<Bucket> histogram)
+            implements Serializable {}
+
+    /**
+     * {@code from} is inclusive and {@code to} exclusive; the last bucket has no {@code to}
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Bucket(int from, Integer to, long count) implements Serializable {}
+}
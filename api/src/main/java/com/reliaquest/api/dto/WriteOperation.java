@@ -0,0 +1,120 @@
+package com.reliaquest.api.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A create accepted for asynchronous processing, as persisted in the write queue and reported by the status endpoint
+ *
+ * @author Naveen Kumar
+ */
+public class WriteOperation {
+
+    public enum Status {
+        PENDING,
+        SUCCEEDED,
+        FAILED
+    }
+
+    private UUID id;
+    private Status status;
+    private EmployeeDto request;
+    private EmployeeDto result;
+    private int attempts;
+    private String error;
+    private Instant acceptedAt;
+    private Instant completedAt;
+
+    // Default constructor
+    public WriteOperation() {}
+
+    public WriteOperation(UUID id, EmployeeDto request, Instant acceptedAt) {
+        this.id = id;
+        this.status = Status.PENDING;
+        this.request = request;
+        this.acceptedAt = acceptedAt;
+    }
+
+    /**
+     * A copy to change, so an operation already handed to readers is never modified in place
+     */
+    public WriteOperation copy() {
+        WriteOperation copy = new WriteOperation(id, request, acceptedAt);
+        copy.status = status;
+        copy.result = result;
+        copy.attempts = attempts;
+        copy.error = error;
+        copy.completedAt = completedAt;
+        return copy;
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public EmployeeDto getRequest() {
+        return request;
+    }
+
+    public void setRequest(EmployeeDto request) {
+        this.request = request;
+    }
+
+    public EmployeeDto getResult() {
+        return result;
+    }
+
+    public void setResult(EmployeeDto result) {
+        this.result = result;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public Instant getAcceptedAt() {
+        return acceptedAt;
+    }
+
+    public void setAcceptedAt(Instant acceptedAt) {
+        this.acceptedAt = acceptedAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "WriteOperation{" + "id=" + id + ", status=" + status + ", attempts=" + attempts + '}';
+    }
+}
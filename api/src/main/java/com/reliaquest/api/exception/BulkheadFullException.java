@@ -0,0 +1,17 @@
+package com.reliaquest.api.exception;
+
+/**
+ * Thrown when an upstream bulkhead has no free slot and its queue is full or the wait for a slot ran out. It is a
+ * kind of {@link MockServerUnavailableException}, so service error handling passes it through unchanged.
+ *
+ * @author Naveen Kumar
+ */
+public class BulkheadFullException extends MockServerUnavailableException {
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+
+    public BulkheadFullException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,12 @@
+package com.reliaquest.api.exception;
+
+/**
+ * Thrown when the caller's time budget is spent before an upstream call could be made
+ *
+ * @author Naveen Kumar
+ */
+public class DeadlineExceededException extends RuntimeException {
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
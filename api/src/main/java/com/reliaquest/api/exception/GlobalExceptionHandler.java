@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -83,6 +84,28 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(error);
     }
 
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<Map<String, String>> handleBulkheadFullException(BulkheadFullException ex) {
+        log.warn("Upstream bulkhead full: {}", ex.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Too many concurrent upstream requests. Please try again later.");
+        error.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
+    @ExceptionHandler(WriteQueueFullException.class)
+    public ResponseEntity<Map<String, String>> handleWriteQueueFullException(WriteQueueFullException ex) {
+        log.warn("Write queue full: {}", ex.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Too many writes pending. Please try again later.");
+        error.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(error);
+    }
+
     @ExceptionHandler(MockServerUnavailableException.class)
     public ResponseEntity<Map<String, String>> handleMockServerUnavailableException(MockServerUnavailableException ex) {
         log.error("Mock server unavailable: {}", ex.getMessage(), ex);
@@ -92,6 +115,24 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
     }
 
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<Map<String, String>> handleDeadlineExceededException(DeadlineExceededException ex) {
+        log.warn("Request deadline exceeded: {}", ex.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Request deadline exceeded");
+        error.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(error);
+    }
+
+    @ExceptionHandler(NotCachedException.class)
+    public ResponseEntity<Map<String, String>> handleNotCachedException(NotCachedException ex) {
+        log.debug("Only-if-cached request missed: {}", ex.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "No cached response available");
+        error.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(error);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, String>> handleRuntimeException(RuntimeException ex) {
         log.error("Runtime error occurred: {}", ex.getMessage(), ex);
@@ -0,0 +1,12 @@
+package com.reliaquest.api.exception;
+
+/**
+ * Thrown when a request sent with {@code Cache-Control: only-if-cached} has no cached response it would accept
+ *
+ * @author Naveen Kumar
+ */
+public class NotCachedException extends RuntimeException {
+    public NotCachedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.reliaquest.api.exception;
+
+/**
+ * Thrown when the asynchronous write queue already holds its maximum number of pending operations
+ *
+ * @author Naveen Kumar
+ */
+public class WriteQueueFullException extends RuntimeException {
+    public WriteQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Roster aggregates maintained by the mock API Server
+ *
+ * @author Naveen Kumar
+ */
+public class ServerEmployeeAggregatesDto implements Serializable {
+
+    @JsonProperty("version")
+    private long version;
+
+    @JsonProperty("count")
+    private long count;
+
+    @JsonProperty("salarySum")
+    private long salarySum;
+
+    @JsonProperty("averageSalary")
+    private Double averageSalary;
+
+    @JsonProperty("maxSalary")
+    private Integer maxSalary;
+
+    @JsonProperty("topEarners")
+    private List<ServerEmployeeDto> topEarners;
+
+    // Default constructor
+    public ServerEmployeeAggregatesDto() {}
+
+    // Getters and Setters
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public long getSalarySum() {
+        return salarySum;
+    }
+
+    public void setSalarySum(long salarySum) {
+        this.salarySum = salarySum;
+    }
+
+    public Double getAverageSalary() {
+        return averageSalary;
+    }
+
+    public void setAverageSalary(Double averageSalary) {
+        this.averageSalary = averageSalary;
+    }
+
+    public Integer getMaxSalary() {
+        return maxSalary;
+    }
+
+    public void setMaxSalary(Integer maxSalary) {
+        this.maxSalary = maxSalary;
+    }
+
+    public List<ServerEmployeeDto> getTopEarners() {
+        return topEarners;
+    }
+
+    public void setTopEarners(List<ServerEmployeeDto> topEarners) {
+        this.topEarners = topEarners;
+    }
+
+    @Override
+    public String toString() {
+        return "ServerEmployeeAggregatesDto{" + "version="
+                + version + ", count="
+                + count + ", salarySum="
+                + salarySum + ", averageSalary="
+                + averageSalary + ", maxSalary="
+                + maxSalary + ", topEarners="
+                + topEarners + '}';
+    }
+}
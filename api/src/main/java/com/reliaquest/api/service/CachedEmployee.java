@@ -0,0 +1,17 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.EmployeeDto;
+import java.util.UUID;
+
+/**
+ * An employee as the read caches hold it: immutable, so one instance can be shared by every cache entry that lists
+ * the employee. Callers only ever see copies made by {@link #toDto()}.
+ *
+ * @author Naveen Kumar
+ */
+record CachedEmployee(UUID id, String name, Integer salary, Integer age, String title, String email) {
+
+    EmployeeDto toDto() {
+        return new EmployeeDto(id, name, salary, age, title, email);
+    }
+}
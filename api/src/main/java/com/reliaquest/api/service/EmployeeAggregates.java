@@ -0,0 +1,32 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.ServerEmployeeAggregatesDto;
+import com.reliaquest.api.model.ServerEmployeeDto;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The aggregate endpoints' answers for one roster version, derived once when the mock API Server's aggregates are
+ * fetched and cached together, so serving either endpoint is a field read.
+ *
+ * @author Naveen Kumar
+ */
+record EmployeeAggregates(long version, long count, int highestSalary, List<String> topEarnerNames) {
+
+    static final int TOP_EARNERS = 10;
+
+    static EmployeeAggregates from(ServerEmployeeAggregatesDto aggregates) {
+        List<String> topEarnerNames = aggregates.getTopEarners() == null
+                ? List.of()
+                : aggregates.getTopEarners().stream()
+                        .map(ServerEmployeeDto::getName)
+                        .filter(Objects::nonNull)
+                        .limit(TOP_EARNERS)
+                        .toList();
+        return new EmployeeAggregates(
+                aggregates.getVersion(),
+                aggregates.getCount(),
+                aggregates.getMaxSalary() != null ? aggregates.getMaxSalary() : 0,
+                topEarnerNames);
+    }
+}
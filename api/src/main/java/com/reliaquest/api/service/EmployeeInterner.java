@@ -0,0 +1,81 @@
+package com.reliaquest.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.dto.EmployeeDto;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands out one immutable {@link CachedEmployee} per employee for everything the read caches hold, so an employee
+ * listed by the roster, dozens of cached searches and a by-id lookup is stored once, and cache memory follows the
+ * number of employees rather than the number of cached queries.
+ *
+ * <p>Instances are kept by id for as long as any cache still references them, and replaced when the mock API Server
+ * returns different data for the id. Titles repeat across thousands of employees, so they are drawn from a shared
+ * dictionary of distinct titles.
+ *
+ * @author Naveen Kumar
+ */
+@Component
+public class EmployeeInterner {
+
+    /*
+     * Bounds the title dictionary should titles turn out to be unique per employee; later titles are kept as they are
+     */
+    private static final int MAX_TITLES = 10_000;
+
+    private final Cache<UUID, CachedEmployee> employees = Caffeine.newBuilder().weakValues().build();
+    private final Map<String, String> titles = new ConcurrentHashMap<>();
+
+    /**
+     * The shared instance with the same data as {@code employee}
+     */
+    CachedEmployee intern(EmployeeDto employee) {
+        if (employee.getId() == null) {
+            return freeze(employee);
+        }
+        return employees
+                .asMap()
+                .compute(
+                        employee.getId(),
+                        (id, existing) ->
+                                existing != null && sameData(existing, employee) ? existing : freeze(employee));
+    }
+
+    private CachedEmployee freeze(EmployeeDto employee) {
+        return new CachedEmployee(
+                employee.getId(),
+                employee.getName(),
+                employee.getSalary(),
+                employee.getAge(),
+                title(employee.getTitle()),
+                employee.getEmail());
+    }
+
+    private String title(String title) {
+        if (title == null) {
+            return null;
+        }
+        String shared = titles.get(title);
+        if (shared != null) {
+            return shared;
+        }
+        if (titles.size() >= MAX_TITLES) {
+            return title;
+        }
+        shared = titles.putIfAbsent(title, title);
+        return shared != null ? shared : title;
+    }
+
+    private static boolean sameData(CachedEmployee cached, EmployeeDto employee) {
+        return Objects.equals(cached.name(), employee.getName())
+                && Objects.equals(cached.salary(), employee.getSalary())
+                && Objects.equals(cached.age(), employee.getAge())
+                && Objects.equals(cached.title(), employee.getTitle())
+                && Objects.equals(cached.email(), employee.getEmail());
+    }
+}
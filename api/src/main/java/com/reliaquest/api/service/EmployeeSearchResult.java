@@ -0,0 +1,70 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.EmployeeDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A cached name search: references to the shared employee instances of {@link EmployeeInterner}, so an employee
+ * matching many cached queries is held once, and each query costs one reference per match.
+ *
+ * <p>Names match when their lower-cased form contains the lower-cased query, the same rule the mock API Server
+ * applies, so queries differing only in case share one entry, and a query extending a cached one ("joh" to "john")
+ * matches a subset of its employees and can be answered by filtering them.
+ *
+ * @author Naveen Kumar
+ */
+final class EmployeeSearchResult {
+
+    private final CachedEmployee[] matches;
+
+    private EmployeeSearchResult(CachedEmployee[] matches) {
+        this.matches = matches;
+    }
+
+    static EmployeeSearchResult of(List<CachedEmployee> matches) {
+        return new EmployeeSearchResult(matches.toArray(CachedEmployee[]::new));
+    }
+
+    static String normalize(String searchString) {
+        return searchString.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Cached queries whose results contain every result of {@code key}: its proper prefixes, longest first
+     */
+    static List<String> broaderKeys(String key) {
+        List<String> prefixes = new ArrayList<>(key.length());
+        for (int length = key.length() - 1; length > 0; length--) {
+            prefixes.add(key.substring(0, length));
+        }
+        return prefixes;
+    }
+
+    /**
+     * The subset of this result whose names also contain {@code key}
+     */
+    EmployeeSearchResult refine(String key) {
+        CachedEmployee[] refined = Arrays.stream(matches)
+                .filter(employee -> employee.name() != null && normalize(employee.name()).contains(key))
+                .toArray(CachedEmployee[]::new);
+        return new EmployeeSearchResult(refined);
+    }
+
+    /**
+     * Copies of the matches for a caller to own
+     */
+    List<EmployeeDto> employees() {
+        List<EmployeeDto> employees = new ArrayList<>(matches.length);
+        for (CachedEmployee match : matches) {
+            employees.add(match.toDto());
+        }
+        return employees;
+    }
+
+    int size() {
+        return matches.length;
+    }
+}
@@ -2,12 +2,17 @@ package com.reliaquest.api.service;
 
 import com.reliaquest.api.dto.ApiResponse;
 import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.dto.EmployeeStatsDto;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.MockServerUnavailableException;
 import com.reliaquest.api.exception.RateLimitExceededException;
 import com.reliaquest.api.model.ServerCreateEmployeeDto;
+import com.reliaquest.api.model.ServerEmployeeAggregatesDto;
 import com.reliaquest.api.model.ServerEmployeeDto;
+import com.reliaquest.api.util.HedgedRequestExecutor;
 import com.reliaquest.api.util.RestTemplateUtil;
+import com.reliaquest.api.util.UpstreamTimeouts;
+import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -16,7 +21,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -25,8 +30,7 @@ import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.ResourceAccessException;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * @author Naveen Kumar
@@ -39,42 +43,59 @@ public class EmployeeService {
     private final RestTemplateUtil restTemplateUtil;
     private final String mockApiBaseUrl;
     private final ModelMapper modelMapper;
+    private final HedgedRequestExecutor hedgedRequestExecutor;
+    private final UpstreamTimeouts upstreamTimeouts;
+    private final ReadCache readCache;
+    private final EmployeeInterner employeeInterner;
 
     public EmployeeService(
             RestTemplateUtil restTemplateUtil,
             @Value("${mock.api.base-url:http://localhost:8112}") String mockApiBaseUrl,
-            ModelMapper modelMapper) {
+            ModelMapper modelMapper,
+            HedgedRequestExecutor hedgedRequestExecutor,
+            UpstreamTimeouts upstreamTimeouts,
+            ReadCache readCache,
+            EmployeeInterner employeeInterner) {
         this.restTemplateUtil = restTemplateUtil;
         this.mockApiBaseUrl = mockApiBaseUrl;
         this.modelMapper = modelMapper;
+        this.hedgedRequestExecutor = hedgedRequestExecutor;
+        this.upstreamTimeouts = upstreamTimeouts;
+        this.readCache = readCache;
+        this.employeeInterner = employeeInterner;
     }
 
     /**
-     * Get all employees from the mock API Server
+     * Get all employees from the mock API Server, or from the {@link ReadCache} when the request's Cache-Control
+     * allows it; the other reads below are cached the same way
      */
     @Retryable(
             value = {HttpClientErrorException.class},
             maxAttempts = 3,
             backoff = @Backoff(delay = 1000, multiplier = 2, maxDelay = 5000))
-    @Cacheable(
-            value = "employees",
-            condition = "!@employeeService.shouldBypassCache()",
-            unless = "#result == null or #result.isEmpty()")
     public List<EmployeeDto> getAllEmployees() {
-        log.info("Fetching all employees from mock API Server {}", shouldBypassCache() ? "(bypassing cache)" : "");
+        return toDtos(readCache.get(
+                "employees", SimpleKey.EMPTY, this::fetchAllEmployees, employees -> !employees.isEmpty()));
+    }
+
+    private List<CachedEmployee> fetchAllEmployees() {
+        log.info("Fetching all employees from mock API Server");
+        UpstreamTimeouts.Deadline deadline = upstreamTimeouts.deadline("getAllEmployees");
         try {
             String url = mockApiBaseUrl + "/api/v1/employee";
 
-            ResponseEntity<ApiResponse<List<ServerEmployeeDto>>> response = restTemplateUtil.get(
-                    url, new ParameterizedTypeReference<ApiResponse<List<ServerEmployeeDto>>>() {});
+            // Idempotent read, so a slow response may be hedged with a second attempt
+            ResponseEntity<ApiResponse<List<ServerEmployeeDto>>> response =
+                    hedgedRequestExecutor.execute("getAllEmployees", () -> deadline.call(() -> restTemplateUtil.get(
+                            url, new ParameterizedTypeReference<ApiResponse<List<ServerEmployeeDto>>>() {})));
 
             if (response.getBody() != null && response.getBody().getData() != null) {
                 log.info(
                         "Successfully fetched {} employees from mock API Server",
                         response.getBody().getData().size());
                 return response.getBody().getData().parallelStream()
-                        .map(serverEmployee -> modelMapper.map(serverEmployee, EmployeeDto.class))
-                        .collect(Collectors.toList());
+                        .map(this::toEmployee)
+                        .toList();
             }
             return List.of();
         } catch (HttpClientErrorException e) {
@@ -91,28 +112,79 @@ public class EmployeeService {
     }
 
     /**
-     * Search employees by name
+     * Search employees by name, filtered by the mock API Server's name index rather than over the full roster.
+     * Results are cached under the lower-cased query, and a query extending a cached one is answered by narrowing
+     * that one's matches, so typeahead sends one upstream search per burst rather than one per keystroke.
      */
     @Retryable(
             value = {HttpClientErrorException.class},
             maxAttempts = 3,
             backoff = @Backoff(delay = 1000, multiplier = 2, maxDelay = 5000))
-    @Cacheable(
-            value = "employeeSearch",
-            key = "#searchString",
-            condition = "!@employeeService.shouldBypassCache()",
-            unless = "#result == null")
     public List<EmployeeDto> searchEmployeesByName(String searchString) {
-        log.info("Searching employees by name: {} {}", searchString, shouldBypassCache() ? "(bypassing cache)" : "");
-        List<EmployeeDto> allEmployees = getAllEmployees();
+        String key = EmployeeSearchResult.normalize(searchString);
+        EmployeeSearchResult result = readCache.get(
+                "employeeSearch",
+                key,
+                EmployeeSearchResult.broaderKeys(key),
+                broader -> broader.refine(key),
+                () -> EmployeeSearchResult.of(fetchEmployeesByName(searchString, false)),
+                matches -> true);
+        return result.employees();
+    }
 
-        List<EmployeeDto> filteredEmployees = allEmployees.parallelStream()
-                .filter(employee -> employee.getName() != null
-                        && employee.getName().toLowerCase().contains(searchString.toLowerCase()))
-                .collect(Collectors.toList());
+    /**
+     * Typo-tolerant search, ranked closest first by the mock API Server's fuzzy name index. A fuzzy result is not a
+     * subset of a shorter query's, so each query is cached on its own.
+     */
+    @Retryable(
+            value = {HttpClientErrorException.class},
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 1000, multiplier = 2, maxDelay = 5000))
+    public List<EmployeeDto> searchEmployeesByNameFuzzy(String searchString) {
+        EmployeeSearchResult result = readCache.get(
+                "employeeFuzzySearch",
+                EmployeeSearchResult.normalize(searchString),
+                () -> EmployeeSearchResult.of(fetchEmployeesByName(searchString, true)),
+                matches -> true);
+        return result.employees();
+    }
 
-        log.info("Found {} employees matching search string: {}", filteredEmployees.size(), searchString);
-        return filteredEmployees;
+    private List<CachedEmployee> fetchEmployeesByName(String searchString, boolean fuzzy) {
+        log.info("Searching employees by name: {}{}", searchString, fuzzy ? " (fuzzy)" : "");
+        UpstreamTimeouts.Deadline deadline = upstreamTimeouts.deadline("searchEmployeesByName");
+        try {
+            // Expanded as a template variable and sent as a URI, so the name is encoded exactly once, '+' and '&'
+            // included; a String URL would be encoded again by RestTemplate
+            URI url = UriComponentsBuilder.fromHttpUrl(
+                            mockApiBaseUrl + (fuzzy ? "/api/v1/employee/fuzzy" : "/api/v1/employee/query"))
+                    .queryParam("name", "{name}")
+                    .encode()
+                    .buildAndExpand(searchString)
+                    .toUri();
+
+            ResponseEntity<ApiResponse<List<ServerEmployeeDto>>> response = deadline.call(() -> restTemplateUtil.get(
+                    url, new ParameterizedTypeReference<ApiResponse<List<ServerEmployeeDto>>>() {}));
+
+            List<CachedEmployee> filteredEmployees = List.of();
+            if (response.getBody() != null && response.getBody().getData() != null) {
+                filteredEmployees = response.getBody().getData().stream()
+                        .map(this::toEmployee)
+                        .toList();
+            }
+
+            log.info("Found {} employees matching search string: {}", filteredEmployees.size(), searchString);
+            return filteredEmployees;
+        } catch (HttpClientErrorException e) {
+            handleRateLimitException(e);
+            throw new RuntimeException("Failed to search employees in mock API Server", e);
+        } catch (ResourceAccessException e) {
+            throw new MockServerUnavailableException("Mock server is unavailable. Please try again later.", e);
+        } catch (MockServerUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error searching employees by name: {} in mock API Server", searchString, e);
+            throw new RuntimeException("Failed to search employees in mock API Server", e);
+        }
     }
 
     /**
@@ -122,25 +194,26 @@ public class EmployeeService {
             value = {HttpClientErrorException.class},
             maxAttempts = 3,
             backoff = @Backoff(delay = 1000, multiplier = 2, maxDelay = 5000))
-    @Cacheable(
-            value = "employeeById",
-            key = "#id",
-            condition = "!@employeeService.shouldBypassCache()",
-            unless = "#result == null")
     public EmployeeDto getEmployeeById(UUID id) {
-        log.info(
-                "Fetching employee with ID: {} from mock API Server {}",
-                id,
-                shouldBypassCache() ? "(bypassing cache)" : "");
+        return readCache
+                .get("employeeById", id, () -> fetchEmployeeById(id), employee -> true)
+                .toDto();
+    }
+
+    private CachedEmployee fetchEmployeeById(UUID id) {
+        log.info("Fetching employee with ID: {} from mock API Server", id);
+        UpstreamTimeouts.Deadline deadline = upstreamTimeouts.deadline("getEmployeeById");
         try {
             String url = mockApiBaseUrl + "/api/v1/employee/" + id;
 
+            // Idempotent read, so a slow response may be hedged with a second attempt
             ResponseEntity<ApiResponse<ServerEmployeeDto>> response =
-                    restTemplateUtil.get(url, new ParameterizedTypeReference<ApiResponse<ServerEmployeeDto>>() {});
+                    hedgedRequestExecutor.execute("getEmployeeById", () -> deadline.call(() -> restTemplateUtil.get(
+                            url, new ParameterizedTypeReference<ApiResponse<ServerEmployeeDto>>() {})));
 
             if (response.getBody() != null && response.getBody().getData() != null) {
                 log.info("Successfully fetched employee with ID: {} from mock API Server", id);
-                return modelMapper.map(response.getBody().getData(), EmployeeDto.class);
+                return toEmployee(response.getBody().getData());
             }
             throw new RuntimeException("Employee not found in mock API Server");
         } catch (HttpClientErrorException.NotFound e) {
@@ -160,54 +233,91 @@ public class EmployeeService {
     }
 
     /**
-     * Get highest salary among all employees
+     * Get highest salary among all employees from the cached {@link EmployeeAggregates}
      */
     @Retryable(
             value = {HttpClientErrorException.class},
             maxAttempts = 3,
             backoff = @Backoff(delay = 1000, multiplier = 2, maxDelay = 5000))
-    @Cacheable(
-            value = "highestSalary",
-            condition = "!@employeeService.shouldBypassCache()",
-            unless = "#result == null or #result <= 0")
     public Integer getHighestSalary() {
-        log.info("Finding highest salary among all employees {}", shouldBypassCache() ? "(bypassing cache)" : "");
-        List<EmployeeDto> allEmployees = getAllEmployees();
+        return getEmployeeAggregates().highestSalary();
+    }
 
-        Integer highestSalary = allEmployees.parallelStream()
-                .filter(employee -> employee.getSalary() != null)
-                .mapToInt(EmployeeDto::getSalary)
-                .max()
-                .orElse(0);
+    /**
+     * Get top 10 highest earning employee names from the cached {@link EmployeeAggregates}
+     */
+    @Retryable(
+            value = {HttpClientErrorException.class},
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 1000, multiplier = 2, maxDelay = 5000))
+    public List<String> getTop10HighestEarningEmployeeNames() {
+        return getEmployeeAggregates().topEarnerNames();
+    }
 
-        log.info("Highest salary found: {}", highestSalary);
-        return highestSalary;
+    /*
+     * Both aggregate endpoints share one entry, so a roster change costs one upstream call rather than one per endpoint
+     */
+    private EmployeeAggregates getEmployeeAggregates() {
+        return readCache.get(
+                "employeeAggregates",
+                SimpleKey.EMPTY,
+                this::fetchEmployeeAggregates,
+                aggregates -> aggregates.count() > 0);
+    }
+
+    private EmployeeAggregates fetchEmployeeAggregates() {
+        log.info("Fetching employee aggregates with top {} earners", EmployeeAggregates.TOP_EARNERS);
+        EmployeeAggregates aggregates = EmployeeAggregates.from(getAggregates(EmployeeAggregates.TOP_EARNERS));
+
+        log.info(
+                "Roster version {}: highest salary {}, {} top earning employees",
+                aggregates.version(),
+                aggregates.highestSalary(),
+                aggregates.topEarnerNames().size());
+        return aggregates;
     }
 
     /**
-     * Get top 10 highest earning employee names
+     * Get salary and age statistics, maintained by the mock API Server as streaming sketches and histograms
      */
     @Retryable(
             value = {HttpClientErrorException.class},
             maxAttempts = 3,
             backoff = @Backoff(delay = 1000, multiplier = 2, maxDelay = 5000))
-    @Cacheable(
-            value = "top10HighestEarningEmployeeNames",
-            condition = "!@employeeService.shouldBypassCache()",
-            unless = "#result == null or #result.isEmpty()")
-    public List<String> getTop10HighestEarningEmployeeNames() {
-        log.info("Finding top 10 highest earning employees {}", shouldBypassCache() ? "(bypassing cache)" : "");
-        List<EmployeeDto> allEmployees = getAllEmployees();
-
-        List<String> topEmployeeNames = allEmployees.parallelStream()
-                .filter(employee -> employee.getSalary() != null && employee.getName() != null)
-                .sorted((e1, e2) -> Integer.compare(e2.getSalary(), e1.getSalary()))
-                .limit(10)
-                .map(EmployeeDto::getName)
-                .collect(Collectors.toList());
-
-        log.info("Found {} top earning employees", topEmployeeNames.size());
-        return topEmployeeNames;
+    public EmployeeStatsDto getEmployeeStats() {
+        return readCache.get(
+                "employeeStats", SimpleKey.EMPTY, this::fetchEmployeeStats, stats -> stats.overall() != null);
+    }
+
+    private EmployeeStatsDto fetchEmployeeStats() {
+        log.info("Fetching employee statistics from mock API Server");
+        UpstreamTimeouts.Deadline deadline = upstreamTimeouts.deadline("getEmployeeStats");
+        try {
+            String url = mockApiBaseUrl + "/api/v1/employee/stats";
+
+            // Idempotent read, so a slow response may be hedged with a second attempt
+            ResponseEntity<ApiResponse<EmployeeStatsDto>> response =
+                    hedgedRequestExecutor.execute("getEmployeeStats", () -> deadline.call(() -> restTemplateUtil.get(
+                            url, new ParameterizedTypeReference<ApiResponse<EmployeeStatsDto>>() {})));
+
+            if (response.getBody() != null && response.getBody().getData() != null) {
+                log.info(
+                        "Fetched employee statistics for roster version {}",
+                        response.getBody().getData().version());
+                return response.getBody().getData();
+            }
+            throw new RuntimeException("No employee statistics in mock API Server response");
+        } catch (HttpClientErrorException e) {
+            handleRateLimitException(e);
+            throw new RuntimeException("Failed to fetch employee statistics from mock API Server", e);
+        } catch (ResourceAccessException e) {
+            throw new MockServerUnavailableException("Mock server is unavailable. Please try again later.", e);
+        } catch (MockServerUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error fetching employee statistics from mock API Server", e);
+            throw new RuntimeException("Failed to fetch employee statistics from mock API Server", e);
+        }
     }
 
     /**
@@ -218,10 +328,17 @@ public class EmployeeService {
             maxAttempts = 3,
             backoff = @Backoff(delay = 1000, multiplier = 2, maxDelay = 5000))
     @CacheEvict(
-            value = {"employees", "employeeSearch", "employeeById", "highestSalary", "top10HighestEarningEmployeeNames"
+            value = {
+                "employees",
+                "employeeSearch",
+                "employeeFuzzySearch",
+                "employeeById",
+                "employeeAggregates",
+                "employeeStats"
             },
             allEntries = true)
     public EmployeeDto createEmployee(EmployeeDto input) {
+        UpstreamTimeouts.Deadline deadline = upstreamTimeouts.deadline("createEmployee");
         try {
             log.info("Creating employee with name: {} in mock API Server", input.getName());
             String url = mockApiBaseUrl + "/api/v1/employee";
@@ -229,8 +346,8 @@ public class EmployeeService {
             // Convert API format to server format using ModelMapper
             ServerCreateEmployeeDto serverInput = modelMapper.map(input, ServerCreateEmployeeDto.class);
 
-            ResponseEntity<ApiResponse<ServerEmployeeDto>> response = restTemplateUtil.post(
-                    url, serverInput, new ParameterizedTypeReference<ApiResponse<ServerEmployeeDto>>() {});
+            ResponseEntity<ApiResponse<ServerEmployeeDto>> response = deadline.call(() -> restTemplateUtil.post(
+                    url, serverInput, new ParameterizedTypeReference<ApiResponse<ServerEmployeeDto>>() {}));
 
             if (response.getBody() != null && response.getBody().getData() != null) {
                 log.info("Successfully created employee with name: {} in mock API Server", input.getName());
@@ -252,58 +369,40 @@ public class EmployeeService {
     }
 
     /**
-     * Delete employee by ID
+     * Delete employee by ID from the mock API Server in a single upstream call
      */
     @Retryable(
             value = {HttpClientErrorException.class},
             maxAttempts = 3,
             backoff = @Backoff(delay = 1000, multiplier = 2, maxDelay = 5000))
     @CacheEvict(
-            value = {"employees", "employeeSearch", "employeeById", "highestSalary", "top10HighestEarningEmployeeNames"
+            value = {
+                "employees",
+                "employeeSearch",
+                "employeeFuzzySearch",
+                "employeeById",
+                "employeeAggregates",
+                "employeeStats"
             },
             allEntries = true)
     public String deleteEmployeeById(UUID id) {
-
-        log.info("Deleting employee with ID: {}", id);
-
-        // First get the employee to find their name
-        EmployeeDto employee = getEmployeeById(id);
-        String employeeName = employee.getName();
-
-        // Then delete by name
-        boolean deleted = deleteEmployeeByName(employeeName);
-
-        if (deleted) {
-            log.info("Successfully deleted employee with ID: {} and name: {}", id, employeeName);
-            return employeeName;
-        } else {
-            throw new RuntimeException("Failed to delete employee");
-        }
-    }
-
-    /**
-     * Delete employee by name from the mock API Server
-     */
-    @Retryable(
-            value = {HttpClientErrorException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2, maxDelay = 5000))
-    private boolean deleteEmployeeByName(String name) {
+        UpstreamTimeouts.Deadline deadline = upstreamTimeouts.deadline("deleteEmployeeById");
         try {
-            log.info("Deleting employee with name: {} from mock API Server", name);
-            String url = mockApiBaseUrl + "/api/v1/employee/" + name;
+            log.info("Deleting employee with ID: {} from mock API Server", id);
+            String url = mockApiBaseUrl + "/api/v1/employee/" + id;
 
-            ResponseEntity<ApiResponse<Boolean>> response =
-                    restTemplateUtil.delete(url, new ParameterizedTypeReference<ApiResponse<Boolean>>() {});
+            // The server removes by ID and returns the deleted employee, so no lookup is needed for the name
+            ResponseEntity<ApiResponse<ServerEmployeeDto>> response = deadline.call(() ->
+                    restTemplateUtil.delete(url, new ParameterizedTypeReference<ApiResponse<ServerEmployeeDto>>() {}));
 
             if (response.getBody() != null && response.getBody().getData() != null) {
-                boolean deleted = response.getBody().getData();
-                log.info("Successfully deleted employee with name: {} from mock API Server", name);
-                return deleted;
+                String employeeName = response.getBody().getData().getName();
+                log.info("Successfully deleted employee with ID: {} and name: {}", id, employeeName);
+                return employeeName;
             }
-            return false;
+            throw new RuntimeException("Failed to delete employee");
         } catch (HttpClientErrorException.NotFound e) {
-            log.warn("Employee with name: {} not found in mock API Server", name);
+            log.warn("Employee with ID: {} not found in mock API Server", id);
             throw new EmployeeNotFoundException("Employee not found", e);
         } catch (HttpClientErrorException e) {
             handleRateLimitException(e);
@@ -313,26 +412,52 @@ public class EmployeeService {
         } catch (MockServerUnavailableException e) {
             throw e;
         } catch (Exception e) {
-            log.error("Error deleting employee with name: {} from mock API Server", name, e);
+            log.error("Error deleting employee with ID: {} from mock API Server", id, e);
             throw new RuntimeException("Failed to delete employee from mock API Server", e);
         }
     }
 
     /**
-     * Check if cache should be bypassed based on request header
+     * Fetch roster aggregates, including the given number of top earners, from the mock API Server
      */
-    public boolean shouldBypassCache() {
+    private ServerEmployeeAggregatesDto getAggregates(int top) {
+        UpstreamTimeouts.Deadline deadline = upstreamTimeouts.deadline("getAggregates");
         try {
-            ServletRequestAttributes attributes =
-                    (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attributes != null) {
-                String bypassHeader = attributes.getRequest().getHeader("X-Cache-Bypass");
-                return "true".equalsIgnoreCase(bypassHeader);
+            String url = mockApiBaseUrl + "/api/v1/employee/aggregates?top=" + top;
+
+            ResponseEntity<ApiResponse<ServerEmployeeAggregatesDto>> response =
+                    deadline.call(() -> restTemplateUtil.get(
+                            url, new ParameterizedTypeReference<ApiResponse<ServerEmployeeAggregatesDto>>() {}));
+
+            if (response.getBody() != null && response.getBody().getData() != null) {
+                return response.getBody().getData();
             }
+            return new ServerEmployeeAggregatesDto();
+        } catch (HttpClientErrorException e) {
+            handleRateLimitException(e);
+            throw new RuntimeException("Failed to fetch employee aggregates from mock API Server", e);
+        } catch (ResourceAccessException e) {
+            throw new MockServerUnavailableException("Mock server is unavailable. Please try again later.", e);
+        } catch (MockServerUnavailableException e) {
+            throw e;
         } catch (Exception e) {
-            log.debug("Could not access request headers: {}", e.getMessage());
+            log.error("Error fetching employee aggregates from mock API Server", e);
+            throw new RuntimeException("Failed to fetch employee aggregates from mock API Server", e);
         }
-        return false;
+    }
+
+    /**
+     * Convert a server employee to the shared instance every read cache holds for it
+     */
+    private CachedEmployee toEmployee(ServerEmployeeDto serverEmployee) {
+        return employeeInterner.intern(modelMapper.map(serverEmployee, EmployeeDto.class));
+    }
+
+    /**
+     * Copies of cached employees for a caller to own, so nothing a caller does can change what the caches hold
+     */
+    private static List<EmployeeDto> toDtos(List<CachedEmployee> employees) {
+        return employees.stream().map(CachedEmployee::toDto).collect(Collectors.toList());
     }
 
     /**
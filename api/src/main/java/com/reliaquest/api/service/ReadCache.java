@@ -0,0 +1,211 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.exception.NotCachedException;
+import com.reliaquest.api.util.RequestCacheControl;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Read-through cache for the read endpoints that honours the request's {@link RequestCacheControl}. Entries keep the
+ * time they were fetched, so a request can bound their age with {@code max-age}, skip them with {@code no-cache} or
+ * insist on them with {@code only-if-cached}; the age of whatever is served is sent back as the {@code Age} header.
+ *
+ * <p>Concurrent misses for the same key share one upstream fetch, so a burst of {@code no-cache} or expired reads
+ * does not stampede the mock API Server. Entries live in the {@link CacheManager}'s caches, so their time-to-live and
+ * size limits and the {@code @CacheEvict} on writes apply unchanged.
+ *
+ * <p>Every stored entry gets a new version, and the version of the entry a request was served is available through
+ * {@link #servedVersion()}, so responses encoded from the same entry can be reused until it is replaced.
+ *
+ * @author Naveen Kumar
+ */
+@Component
+public class ReadCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadCache.class);
+    private static final String VERSION_ATTRIBUTE = ReadCache.class.getName() + ".VERSION";
+
+    private final CacheManager cacheManager;
+    private final Clock clock;
+    private final Map<FetchKey, CompletableFuture<Fetched<?>>> fetches = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    public ReadCache(CacheManager cacheManager) {
+        this(cacheManager, Clock.systemUTC());
+    }
+
+    ReadCache(CacheManager cacheManager, Clock clock) {
+        this.cacheManager = cacheManager;
+        this.clock = clock;
+    }
+
+    /**
+     * A cache over plain in-memory maps, for callers and tests without a configured cache manager
+     */
+    public static ReadCache inMemory() {
+        return new ReadCache(new ConcurrentMapCacheManager());
+    }
+
+    /**
+     * Answer from cache {@code cacheName} when the request accepts the entry's age, otherwise fetch with
+     * {@code loader} and cache the result if {@code cacheable} allows it and the request did not say {@code no-store}
+     */
+    public <T> T get(String cacheName, Object key, Supplier<T> loader, Predicate<T> cacheable) {
+        return get(cacheName, key, List.of(), UnaryOperator.identity(), loader, cacheable);
+    }
+
+    /**
+     * Like {@link #get(String, Object, Supplier, Predicate)}, but before fetching, look for an acceptable entry under
+     * one of {@code broaderKeys} (tried in order), whose value contains the answer for {@code key}, and derive the
+     * answer from it with {@code refine}. A derived entry keeps the age of the one it came from.
+     */
+    public <T> T get(
+            String cacheName,
+            Object key,
+            List<?> broaderKeys,
+            UnaryOperator<T> refine,
+            Supplier<T> loader,
+            Predicate<T> cacheable) {
+        RequestCacheControl cacheControl = RequestCacheControl.current();
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new IllegalStateException("No cache named " + cacheName);
+        }
+
+        Entry entry = cache.get(key, Entry.class);
+        if (entry != null) {
+            long ageSeconds = entry.ageSeconds(clock.millis());
+            if (cacheControl.accepts(ageSeconds)) {
+                log.debug("Serving {} [{}] from cache, {} s old", cacheName, key, ageSeconds);
+                setServed(ageSeconds, entry.version());
+                @SuppressWarnings("unchecked")
+                T value = (T) entry.value();
+                return value;
+            }
+        }
+        if (!cacheControl.noCache()) {
+            for (Object broaderKey : broaderKeys) {
+                Entry broader = cache.get(broaderKey, Entry.class);
+                if (broader == null) {
+                    continue;
+                }
+                long ageSeconds = broader.ageSeconds(clock.millis());
+                if (cacheControl.accepts(ageSeconds)) {
+                    log.debug("Deriving {} [{}] from [{}], {} s old", cacheName, key, broaderKey, ageSeconds);
+                    @SuppressWarnings("unchecked")
+                    T value = refine.apply((T) broader.value());
+                    Long version = null;
+                    if (!cacheControl.noStore() && value != null && cacheable.test(value)) {
+                        version = versions.incrementAndGet();
+                        cache.put(key, new Entry(value, broader.fetchedAtMillis(), version));
+                    }
+                    setServed(ageSeconds, version);
+                    return value;
+                }
+            }
+        }
+        if (cacheControl.onlyIfCached()) {
+            throw new NotCachedException("No cached " + cacheName + " response satisfies the request's Cache-Control");
+        }
+
+        Fetched<T> fetched = fetch(cache, cacheName, key, loader, cacheable, !cacheControl.noStore());
+        setServed(0, fetched.version());
+        return fetched.value();
+    }
+
+    /**
+     * Version of the cache entry the current request was last served from, or {@code null} when that response was not
+     * cached (or outside a request)
+     */
+    public static Long servedVersion() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes == null
+                ? null
+                : (Long) attributes.getAttribute(VERSION_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /*
+     * The first caller for a key fetches; callers arriving while it runs wait for the same result
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Fetched<T> fetch(
+            Cache cache, String cacheName, Object key, Supplier<T> loader, Predicate<T> cacheable, boolean store) {
+        FetchKey fetchKey = new FetchKey(cacheName, key);
+        CompletableFuture<Fetched<?>> fetch = new CompletableFuture<>();
+        CompletableFuture<Fetched<?>> running = fetches.putIfAbsent(fetchKey, fetch);
+        if (running != null) {
+            log.debug("Joining the fetch of {} [{}] already in flight", cacheName, key);
+            try {
+                return (Fetched<T>) running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        try {
+            T value = loader.get();
+            Long version = null;
+            if (store && value != null && cacheable.test(value)) {
+                version = versions.incrementAndGet();
+                cache.put(key, new Entry(value, clock.millis(), version));
+            }
+            Fetched<T> fetched = new Fetched<>(value, version);
+            fetch.complete(fetched);
+            return fetched;
+        } catch (RuntimeException | Error e) {
+            fetch.completeExceptionally(e);
+            throw e;
+        } finally {
+            fetches.remove(fetchKey, fetch);
+        }
+    }
+
+    private static void setServed(long ageSeconds, Long version) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            if (version == null) {
+                attributes.removeAttribute(VERSION_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            } else {
+                attributes.setAttribute(VERSION_ATTRIBUTE, version, RequestAttributes.SCOPE_REQUEST);
+            }
+            HttpServletResponse response = attributes.getResponse();
+            if (response != null && !response.isCommitted()) {
+                response.setHeader(HttpHeaders.AGE, Long.toString(ageSeconds));
+            }
+        }
+    }
+
+    private record FetchKey(String cacheName, Object key) {}
+
+    private record Fetched<T>(T value, Long version) {}
+
+    /**
+     * A cached value, when it was fetched from the mock API Server and the version it was stored under
+     */
+    record Entry(Object value, long fetchedAtMillis, long version) {
+
+        long ageSeconds(long nowMillis) {
+            return Math.max(0, (nowMillis - fetchedAtMillis) / 1000);
+        }
+    }
+}
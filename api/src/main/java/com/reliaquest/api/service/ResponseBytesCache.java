@@ -0,0 +1,111 @@
+package com.reliaquest.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Encoded response bodies of the read endpoints, plain and gzipped, keyed by endpoint, parameters and the version of
+ * the {@link ReadCache} entry they were encoded from.
+ *
+ * <p>A request answered from a cached entry already encoded for the same parameters is written straight from these
+ * bytes, without Jackson and without compressing again. A new entry, fetched after expiry or a write, has a new
+ * version, so stale bytes are never served; they simply stop being hit and age out under the byte budget. Responses
+ * whose data was not cached ({@code no-store}, uncacheable results) are encoded per request as before.
+ *
+ * @author Naveen Kumar
+ */
+@Component
+public class ResponseBytesCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseBytesCache.class);
+
+    private final boolean enabled;
+    private final int gzipMinBytes;
+    private final Cache<Key, Encoded> encoded;
+
+    public ResponseBytesCache(
+            @Value("${mock.api.response-cache.enabled:true}") boolean enabled,
+            @Value("${mock.api.response-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${mock.api.response-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.enabled = enabled;
+        this.gzipMinBytes = gzipMinBytes;
+        this.encoded = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, Encoded value) -> value.weight())
+                .build();
+    }
+
+    /**
+     * A 200 JSON response with the body {@code encoder} produces for the data the current request was served, reused
+     * for every request served the same {@link ReadCache} entry with the same {@code parameters}
+     */
+    public ResponseEntity<byte[]> respond(
+            String endpoint, String parameters, String acceptEncoding, Supplier<byte[]> encoder) {
+        Long version = ReadCache.servedVersion();
+        if (!enabled || version == null) {
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(encoder.get());
+        }
+
+        Key key = new Key(endpoint, parameters, version);
+        Encoded body = encoded.getIfPresent(key);
+        if (body == null) {
+            body = encoded.get(key, ignored -> encode(encoder.get()));
+        } else {
+            log.debug("Writing cached {} bytes for {} [{}] v{}", body.plain().length, endpoint, parameters, version);
+        }
+
+        ResponseEntity.BodyBuilder response =
+                ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (body.gzip() != null && acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+        }
+        return response.body(body.plain());
+    }
+
+    private Encoded encode(byte[] plain) {
+        if (plain.length < gzipMinBytes) {
+            return new Encoded(plain, null);
+        }
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream(plain.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(gzip)) {
+            out.write(plain);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to gzip response", e);
+        }
+        return new Encoded(plain, gzip.toByteArray());
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if ("gzip".equalsIgnoreCase(parts[0].trim())) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private record Key(String endpoint, String parameters, long version) {}
+
+    private record Encoded(byte[] plain, byte[] gzip) {
+
+        int weight() {
+            return plain.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.dto.WriteOperation;
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.exception.MockServerUnavailableException;
+import com.reliaquest.api.exception.RateLimitExceededException;
+import com.reliaquest.api.exception.WriteQueueFullException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Optional asynchronous create path. Accepted creates are fsynced to a local directory, one file per operation, before
+ * the caller gets its operation id, and a single worker drains them to the mock API Server in arrival order.
+ *
+ * <p>When the server rate limits or is unavailable the worker waits, for the server's {@code Retry-After} if it sent
+ * one and otherwise for an exponentially growing backoff, then retries the same operation; the drain rate therefore
+ * follows whatever the server allows. Operations still pending at shutdown are picked up again on the next startup.
+ * Delivery is at least once: a create whose response was lost, or whose outcome could not be written to disk, is sent
+ * again after a restart.
+ *
+ * @author Naveen Kumar
+ */
+@Service
+public class WriteQueueService implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteQueueService.class);
+
+    private static final String SUFFIX = ".json";
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(1);
+
+    private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Path directory;
+    private final int maxPending;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    private final Duration retention;
+    private final Clock clock;
+
+    private final Map<UUID, WriteOperation> operations = new ConcurrentHashMap<>();
+    /*
+     * Bounded, so admission is the queue's own atomic offer; only replaced at startup, before the worker runs
+     */
+    private volatile BlockingQueue<WriteOperation> pending;
+    private volatile boolean running;
+    private Thread worker;
+
+    public WriteQueueService(
+            EmployeeService employeeService,
+            ObjectMapper objectMapper,
+            @Value("${mock.api.async-writes.enabled:false}") boolean enabled,
+            @Value("${mock.api.async-writes.directory:write-queue}") String directory,
+            @Value("${mock.api.async-writes.max-pending:10000}") int maxPending,
+            @Value("${mock.api.async-writes.initial-backoff-ms:1000}") long initialBackoffMillis,
+            @Value("${mock.api.async-writes.max-backoff-ms:60000}") long maxBackoffMillis,
+            @Value("${mock.api.async-writes.max-attempts:100}") int maxAttempts,
+            @Value("${mock.api.async-writes.retention-hours:24}") long retentionHours) {
+        this(
+                employeeService,
+                objectMapper,
+                enabled,
+                Path.of(directory),
+                maxPending,
+                Duration.ofMillis(initialBackoffMillis),
+                Duration.ofMillis(maxBackoffMillis),
+                maxAttempts,
+                Duration.ofHours(retentionHours),
+                Clock.systemUTC());
+    }
+
+    WriteQueueService(
+            EmployeeService employeeService,
+            ObjectMapper objectMapper,
+            boolean enabled,
+            Path directory,
+            int maxPending,
+            Duration initialBackoff,
+            Duration maxBackoff,
+            int maxAttempts,
+            Duration retention,
+            Clock clock) {
+        if (maxPending < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("mock.api.async-writes max-pending and max-attempts must be >= 1");
+        }
+        this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.directory = directory;
+        this.maxPending = maxPending;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+        this.clock = clock;
+        this.pending = new LinkedBlockingQueue<>(maxPending);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Recover operations left by the previous run and start draining
+     */
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(directory);
+        List<WriteOperation> recovered = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (!fileName.endsWith(SUFFIX)) {
+                    // A write interrupted before its rename; the caller never got this operation's id
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+                try {
+                    recovered.add(objectMapper.readValue(file.toFile(), WriteOperation.class));
+                } catch (IOException e) {
+                    log.error("Skipping unreadable write queue entry {}", file, e);
+                }
+            }
+        }
+        recovered.sort(Comparator.comparing(WriteOperation::getAcceptedAt));
+        List<WriteOperation> recoveredPending = recovered.stream()
+                .filter(operation -> operation.getStatus() == WriteOperation.Status.PENDING)
+                .toList();
+        // Every accepted operation is resumed, even if max-pending was lowered since it was accepted
+        pending = new LinkedBlockingQueue<>(Math.max(maxPending, recoveredPending.size()));
+        recovered.forEach(operation -> operations.put(operation.getId(), operation));
+        pending.addAll(recoveredPending);
+        log.info("Write queue recovered {} operations, {} pending", recovered.size(), pending.size());
+
+        running = true;
+        worker = new Thread(this::drain, "write-queue");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    /**
+     * Persist a create and queue it; returns once the operation is durable. The queue's offer decides admission, so
+     * concurrent submits can never exceed max-pending; an operation persisted but refused is deleted again.
+     */
+    public WriteOperation submit(EmployeeDto input) {
+        if (!enabled) {
+            throw new IllegalStateException("Asynchronous writes are disabled");
+        }
+        if (pending.remainingCapacity() == 0) {
+            // Spares an overloaded queue the fsync; the offer below is what enforces the bound
+            throw queueFull();
+        }
+        WriteOperation operation = new WriteOperation(UUID.randomUUID(), input, clock.instant());
+        persist(operation);
+        // Visible before the worker can take it, so its updates are never overwritten by this initial state
+        operations.put(operation.getId(), operation);
+        if (!pending.offer(operation)) {
+            operations.remove(operation.getId());
+            delete(operation.getId());
+            throw queueFull();
+        }
+        log.info("Accepted create for {} as operation {}", input.getName(), operation.getId());
+        return operation;
+    }
+
+    public Optional<WriteOperation> getOperation(UUID id) {
+        return Optional.ofNullable(operations.get(id));
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    private void drain() {
+        Instant nextPurge = clock.instant();
+        while (running) {
+            try {
+                WriteOperation operation = pending.poll(PURGE_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                if (operation != null) {
+                    process(operation);
+                }
+                if (!clock.instant().isBefore(nextPurge)) {
+                    purgeCompleted();
+                    nextPurge = clock.instant().plus(PURGE_INTERVAL);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Write queue worker error", e);
+            }
+        }
+    }
+
+    /**
+     * Send one operation until it succeeds, fails permanently or runs out of attempts. Only this worker changes
+     * operations, publishing a fresh copy after every step.
+     */
+    private void process(WriteOperation operation) throws InterruptedException {
+        Duration backoff = initialBackoff;
+        while (running) {
+            WriteOperation attempt = operation.copy();
+            attempt.setAttempts(operation.getAttempts() + 1);
+            EmployeeDto created;
+            try {
+                created = employeeService.createEmployee(operation.getRequest());
+            } catch (RuntimeException e) {
+                attempt.setError(e.getMessage());
+                if (!isTransient(e) || attempt.getAttempts() >= maxAttempts) {
+                    attempt.setStatus(WriteOperation.Status.FAILED);
+                    attempt.setCompletedAt(clock.instant());
+                    publish(attempt);
+                    log.warn("Operation {} failed after {} attempts", attempt.getId(), attempt.getAttempts(), e);
+                    return;
+                }
+                publish(attempt);
+                Duration wait = retryAfter(e).orElse(backoff);
+                log.debug("Operation {} attempt {} deferred for {} ms", attempt.getId(), attempt.getAttempts(), wait);
+                Thread.sleep(wait.toMillis());
+                backoff = backoff.multipliedBy(2).compareTo(maxBackoff) > 0 ? maxBackoff : backoff.multipliedBy(2);
+                operation = attempt;
+                continue;
+            }
+            attempt.setStatus(WriteOperation.Status.SUCCEEDED);
+            attempt.setResult(created);
+            attempt.setError(null);
+            attempt.setCompletedAt(clock.instant());
+            publish(attempt);
+            log.info("Operation {} created employee {}", attempt.getId(), created.getId());
+            return;
+        }
+    }
+
+    /**
+     * Record a new state of an operation. A state that cannot be written to disk still stands for this run; the file
+     * keeps the previous state, so the operation is at worst sent again after a restart.
+     */
+    private void publish(WriteOperation operation) {
+        operations.put(operation.getId(), operation);
+        try {
+            persist(operation);
+        } catch (UncheckedIOException e) {
+            log.error(
+                    "Operation {} is {} but could not be recorded on disk",
+                    operation.getId(),
+                    operation.getStatus(),
+                    e);
+        }
+    }
+
+    private void purgeCompleted() {
+        Instant cutoff = clock.instant().minus(retention);
+        operations.values().removeIf(operation -> {
+            if (operation.getCompletedAt() == null || operation.getCompletedAt().isAfter(cutoff)) {
+                return false;
+            }
+            delete(operation.getId());
+            return true;
+        });
+    }
+
+    private void delete(UUID id) {
+        try {
+            Files.deleteIfExists(file(id));
+        } catch (IOException e) {
+            log.warn("Could not delete write queue entry {}", id, e);
+        }
+    }
+
+    private WriteQueueFullException queueFull() {
+        return new WriteQueueFullException("Write queue is full: " + maxPending + " operations pending");
+    }
+
+    /**
+     * Write to a temporary file, fsync it and rename it over the previous state, so a crash leaves either the old or
+     * the new version of an operation on disk
+     */
+    private void persist(WriteOperation operation) {
+        Path target = file(operation.getId());
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(
+                temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(objectMapper.writeValueAsBytes(operation));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not persist write operation " + operation.getId(), e);
+        }
+        try {
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not persist write operation " + operation.getId(), e);
+        }
+    }
+
+    private Path file(UUID id) {
+        return directory.resolve(id + SUFFIX);
+    }
+
+    /**
+     * Rate limits, an unreachable or failing server and spent deadlines pass; anything else, such as a rejected
+     * payload, fails the same way on every attempt
+     */
+    private static boolean isTransient(RuntimeException e) {
+        if (e instanceof RateLimitExceededException
+                || e instanceof MockServerUnavailableException
+                || e instanceof DeadlineExceededException) {
+            return true;
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpServerErrorException || cause instanceof ResourceAccessException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Optional<Duration> retryAfter(RuntimeException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RateLimitExceededException rateLimit && rateLimit.getRetryAfterSeconds() > 0) {
+                return Optional.of(Duration.ofSeconds(rateLimit.getRetryAfterSeconds()));
+            }
+            if (cause instanceof HttpStatusCodeException statusCode && statusCode.getResponseHeaders() != null) {
+                String retryAfter = statusCode.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+                if (retryAfter != null) {
+                    try {
+                        return Optional.of(Duration.ofSeconds(Long.parseLong(retryAfter.trim())));
+                    } catch (NumberFormatException ignored) {
+                        // An HTTP date; fall back to the backoff
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
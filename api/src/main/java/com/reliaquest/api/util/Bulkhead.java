@@ -0,0 +1,137 @@
+package com.reliaquest.api.util;
+
+import com.reliaquest.api.exception.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Caps how many upstream calls of one kind run at once. Up to {@code maxConcurrent} calls run on their callers'
+ * threads; up to {@code maxWaiting} more queue for at most {@code maxWait} (or the caller's remaining deadline, if
+ * shorter), and anything beyond that is rejected at once with a {@link BulkheadFullException}. Calls admitted,
+ * rejected, running, queued and time spent queueing are published under {@code upstream.bulkhead.*}, tagged by
+ * bulkhead name.
+ *
+ * @author Naveen Kumar
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxWaiting;
+    private final Duration maxWait;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private final Counter admitted;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedTimeout;
+    private final Timer queueWait;
+
+    public Bulkhead(String name, int maxConcurrent, int maxWaiting, Duration maxWait, MeterRegistry meterRegistry) {
+        if (maxConcurrent < 1 || maxWaiting < 0 || maxWait.isNegative()) {
+            throw new IllegalArgumentException(
+                    "Bulkhead " + name + " needs max-concurrent >= 1, max-waiting >= 0 and max-wait >= 0");
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaiting = maxWaiting;
+        this.maxWait = maxWait;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.admitted = Counter.builder("upstream.bulkhead.admitted")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        this.rejectedQueueFull = Counter.builder("upstream.bulkhead.rejected")
+                .tag("bulkhead", name)
+                .tag("reason", "queue-full")
+                .register(meterRegistry);
+        this.rejectedTimeout = Counter.builder("upstream.bulkhead.rejected")
+                .tag("bulkhead", name)
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("upstream.bulkhead.queue.wait")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("upstream.bulkhead.active", this, Bulkhead::active)
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("upstream.bulkhead.waiting", waiting, AtomicInteger::get)
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A bulkhead that admits {@code maxConcurrent} calls and queues as many again, for tests and tools
+     */
+    public static Bulkhead of(String name, int maxConcurrent) {
+        return new Bulkhead(name, maxConcurrent, maxConcurrent, Duration.ofSeconds(10), new SimpleMeterRegistry());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * Run {@code call} once a slot is free. Runtime exceptions from the call surface unchanged.
+     */
+    public <T> T execute(Supplier<T> call) {
+        acquire();
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    int active() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    int waiting() {
+        return waiting.get();
+    }
+
+    private void acquire() {
+        if (permits.tryAcquire()) {
+            admitted.increment();
+            return;
+        }
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            rejectedQueueFull.increment();
+            throw new BulkheadFullException(
+                    "Upstream " + name + " bulkhead is full: " + maxConcurrent + " running, " + maxWaiting + " queued");
+        }
+        long started = System.nanoTime();
+        try {
+            // Never queue past the caller's own deadline
+            Duration timeout = UpstreamTimeouts.currentTimeout(maxWait);
+            if (timeout.compareTo(maxWait) > 0) {
+                timeout = maxWait;
+            }
+            if (!permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                rejectedTimeout.increment();
+                throw new BulkheadFullException("Timed out after " + timeout.toMillis()
+                        + " ms waiting for the upstream " + name + " bulkhead");
+            }
+            admitted.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BulkheadFullException("Interrupted waiting for the upstream " + name + " bulkhead", e);
+        } finally {
+            waiting.decrementAndGet();
+            queueWait.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+}
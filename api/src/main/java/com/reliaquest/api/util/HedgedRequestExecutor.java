@@ -0,0 +1,242 @@
+package com.reliaquest.api.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs idempotent upstream reads with optional hedging: when the first attempt has not answered within the
+ * operation's recently observed p95 latency, a second identical attempt is sent and whichever succeeds first wins;
+ * the other is cancelled.
+ *
+ * <p>Hedges are paid for from a budget that every call tops up by {@code budget-ratio} of a hedge, so extra load
+ * stays near that ratio no matter how slow the upstream gets. Calls, hedges sent, hedges that won and hedges denied
+ * by the budget are published per operation under {@code upstream.hedging.*}.
+ *
+ * @author Naveen Kumar
+ */
+@Component
+public class HedgedRequestExecutor implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(HedgedRequestExecutor.class);
+
+    private static final long MILLI_TOKENS_PER_HEDGE = 1000;
+    private static final int MAX_BANKED_HEDGES = 10;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long initialDelayMillis;
+    private final long minDelayMillis;
+    private final long budgetMilliTokensPerCall;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+    private final AtomicLong budgetMilliTokens = new AtomicLong();
+    private final ExecutorService executor;
+
+    public HedgedRequestExecutor(
+            @Value("${mock.api.hedging.enabled:false}") boolean enabled,
+            @Value("${mock.api.hedging.percentile:0.95}") double percentile,
+            @Value("${mock.api.hedging.initial-delay-ms:100}") long initialDelayMillis,
+            @Value("${mock.api.hedging.min-delay-ms:5}") long minDelayMillis,
+            @Value("${mock.api.hedging.budget-ratio:0.1}") double budgetRatio,
+            MeterRegistry meterRegistry) {
+        if (percentile <= 0 || percentile >= 1 || budgetRatio < 0) {
+            throw new IllegalArgumentException("mock.api.hedging percentile must be in (0, 1) and budget-ratio >= 0");
+        }
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.initialDelayMillis = initialDelayMillis;
+        this.minDelayMillis = minDelayMillis;
+        this.budgetMilliTokensPerCall = Math.round(budgetRatio * MILLI_TOKENS_PER_HEDGE);
+        this.meterRegistry = meterRegistry;
+        this.executor = enabled ? Executors.newCachedThreadPool(new HedgeThreadFactory()) : null;
+    }
+
+    /**
+     * An executor that always calls straight through, for callers and tests that do not hedge
+     */
+    public static HedgedRequestExecutor disabled() {
+        return new HedgedRequestExecutor(false, 0.95, 0, 0, 0, new SimpleMeterRegistry());
+    }
+
+    /**
+     * Run {@code call}, hedging it when enabled. Runtime exceptions from the call surface unchanged, so callers keep
+     * their existing error handling.
+     */
+    public <T> T execute(String operationName, Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        Operation operation = operations.computeIfAbsent(operationName, Operation::new);
+        operation.calls.increment();
+        budgetMilliTokens.getAndUpdate(
+                tokens -> Math.min(MAX_BANKED_HEDGES * MILLI_TOKENS_PER_HEDGE, tokens + budgetMilliTokensPerCall));
+
+        ExecutorCompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        Future<T> primary = completion.submit(() -> operation.timed(call));
+        Future<T> hedge = null;
+        try {
+            Future<T> first = completion.poll(operation.delayMillis(), TimeUnit.MILLISECONDS);
+            if (first == null) {
+                if (tryAcquireHedge()) {
+                    operation.hedgesSent.increment();
+                    hedge = completion.submit(() -> operation.timed(call));
+                } else {
+                    operation.hedgesDenied.increment();
+                }
+                first = completion.take();
+            }
+            try {
+                T result = first.get();
+                if (first == hedge) {
+                    operation.hedgesWon.increment();
+                }
+                return result;
+            } catch (ExecutionException e) {
+                if (hedge == null) {
+                    throw e;
+                }
+                // One attempt failed; the other still decides the outcome
+                Future<T> second = completion.take();
+                T result = second.get();
+                if (second == hedge) {
+                    operation.hedgesWon.increment();
+                }
+                return result;
+            }
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + operationName, e);
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    private boolean tryAcquireHedge() {
+        long tokens;
+        do {
+            tokens = budgetMilliTokens.get();
+            if (tokens < MILLI_TOKENS_PER_HEDGE) {
+                return false;
+            }
+        } while (!budgetMilliTokens.compareAndSet(tokens, tokens - MILLI_TOKENS_PER_HEDGE));
+        return true;
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Per-operation latency window and meters. The hedge delay is recomputed from the window every
+     * {@link #RECOMPUTE_EVERY} samples rather than on every call.
+     */
+    private final class Operation {
+
+        private static final int WINDOW = 1024;
+        private static final int MIN_SAMPLES = 20;
+        private static final int RECOMPUTE_EVERY = 64;
+
+        private final String name;
+        private final long[] samples = new long[WINDOW];
+        private int sampleCount;
+        private volatile long delayMillis = initialDelayMillis;
+
+        private final Counter calls;
+        private final Counter hedgesSent;
+        private final Counter hedgesWon;
+        private final Counter hedgesDenied;
+
+        private Operation(String name) {
+            this.name = name;
+            this.calls = counter("upstream.hedging.calls", name);
+            this.hedgesSent = counter("upstream.hedging.hedges.sent", name);
+            this.hedgesWon = counter("upstream.hedging.hedges.won", name);
+            this.hedgesDenied = counter("upstream.hedging.hedges.denied", name);
+            Gauge.builder("upstream.hedging.delay", this, operation -> operation.delayMillis)
+                    .tag("operation", name)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+
+        private long delayMillis() {
+            return delayMillis;
+        }
+
+        private <T> T timed(Supplier<T> call) {
+            long started = System.nanoTime();
+            try {
+                return call.get();
+            } finally {
+                // Attempts that lose and are cancelled, or that fail, still count for at least as long as they ran.
+                // Sampling only the winners would teach the window that the upstream is faster than it is, and the
+                // delay would keep drifting down.
+                record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            }
+        }
+
+        private synchronized void record(long latencyMillis) {
+            samples[sampleCount % WINDOW] = latencyMillis;
+            sampleCount++;
+            if (sampleCount == MIN_SAMPLES || (sampleCount > MIN_SAMPLES && sampleCount % RECOMPUTE_EVERY == 0)) {
+                long[] window = Arrays.copyOf(samples, Math.min(sampleCount, WINDOW));
+                Arrays.sort(window);
+                delayMillis = Math.max(minDelayMillis, window[(int) Math.ceil(percentile * window.length) - 1]);
+                log.debug("Hedge delay for {} is now {} ms", name, delayMillis);
+            }
+        }
+
+        private Counter counter(String name, String operation) {
+            return Counter.builder(name).tag("operation", operation).register(meterRegistry);
+        }
+    }
+
+    private static final class HedgeThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger next = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "upstream-hedge-" + next.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.api.util;
+
+import java.util.Locale;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * The request {@code Cache-Control} directives the read endpoints honour:
+ *
+ * <ul>
+ *   <li>{@code max-age=N}: accept a cached response at most N seconds old
+ *   <li>{@code no-cache}: do not answer from the cache, go to the mock API Server
+ *   <li>{@code only-if-cached}: answer from the cache or not at all, never go to the mock API Server
+ *   <li>{@code no-store}: do not cache the response fetched for this request
+ * </ul>
+ *
+ * Unknown directives and malformed values are ignored, as HTTP caches do.
+ *
+ * @author Naveen Kumar
+ */
+public record RequestCacheControl(Long maxAgeSeconds, boolean noCache, boolean onlyIfCached, boolean noStore) {
+
+    public static final RequestCacheControl DEFAULT = new RequestCacheControl(null, false, false, false);
+
+    /**
+     * Directives of the request bound to the calling thread; {@link #DEFAULT} outside a request
+     */
+    public static RequestCacheControl current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes
+                && servletAttributes.getRequest() != null) {
+            return parse(servletAttributes.getRequest().getHeader(HttpHeaders.CACHE_CONTROL));
+        }
+        return DEFAULT;
+    }
+
+    public static RequestCacheControl parse(String header) {
+        if (header == null || header.isBlank()) {
+            return DEFAULT;
+        }
+        Long maxAgeSeconds = null;
+        boolean noCache = false;
+        boolean onlyIfCached = false;
+        boolean noStore = false;
+        for (String directive : header.split(",")) {
+            String[] parts = directive.trim().split("=", 2);
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            switch (name) {
+                case "max-age" -> maxAgeSeconds = parts.length == 2 ? seconds(parts[1]) : null;
+                case "no-cache" -> noCache = true;
+                case "only-if-cached" -> onlyIfCached = true;
+                case "no-store" -> noStore = true;
+                default -> {
+                    // Not a request directive this API acts on
+                }
+            }
+        }
+        return new RequestCacheControl(maxAgeSeconds, noCache, onlyIfCached, noStore);
+    }
+
+    /**
+     * Whether a cached response of the given age may answer this request
+     */
+    public boolean accepts(long ageSeconds) {
+        return !noCache && (maxAgeSeconds == null || ageSeconds <= maxAgeSeconds);
+    }
+
+    private static Long seconds(String value) {
+        String unquoted = value.trim().replace("\"", "");
+        try {
+            long seconds = Long.parseLong(unquoted);
+            return seconds < 0 ? null : seconds;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.reliaquest.api.util;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Turns the caller's {@value #TIMEOUT_HEADER} budget into an absolute deadline as soon as the request arrives, so time
+ * spent in this service counts against it. {@link UpstreamTimeouts} never lets an upstream call outlive it.
+ *
+ * @author Naveen Kumar
+ */
+@Component
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+    public static final String DEADLINE_ATTRIBUTE = RequestDeadlineFilter.class.getName() + ".deadlineNanos";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String timeout = request.getHeader(TIMEOUT_HEADER);
+        if (timeout != null) {
+            try {
+                long timeoutMillis = Long.parseLong(timeout.trim());
+                if (timeoutMillis > 0) {
+                    request.setAttribute(
+                            DEADLINE_ATTRIBUTE, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+                }
+            } catch (NumberFormatException e) {
+                // An unreadable budget is ignored rather than failing the request
+            }
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -1,7 +1,22 @@
 package com.reliaquest.api.util;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
@@ -11,29 +26,112 @@ import org.springframework.web.client.RestTemplate;
 @Component
 public class RestTemplateUtil {
 
-    private final RestTemplate restTemplate;
+    /**
+     * Jackson's binary JSON encoding, smaller on the wire and cheaper to parse than JSON. The mock server answers
+     * in it when asked; JSON stays acceptable so an older server keeps working.
+     */
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
 
-    public RestTemplateUtil() {
-        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory();
+    private static final List<MediaType> PREFERRED_ACCEPT =
+            List.of(APPLICATION_SMILE, new MediaType(MediaType.APPLICATION_JSON, Map.of("q", "0.9")));
+
+    /**
+     * Response timeout for calls made outside an {@link UpstreamTimeouts.Deadline}
+     */
+    private static final Duration DEFAULT_RESPONSE_TIMEOUT = Duration.ofSeconds(10);
+
+    private final RestTemplate readTemplate;
+    private final RestTemplate writeTemplate;
+    private final Bulkhead readBulkhead;
+    private final Bulkhead writeBulkhead;
+
+    /**
+     * Reads (GET) and writes (POST, DELETE) each pass through their own {@link Bulkhead} and use their own client
+     * and connections, sized to that bulkhead, so saturating one path leaves the other's slots and sockets free.
+     */
+    public RestTemplateUtil(
+            @Value("${mock.api.http2:true}") boolean http2,
+            @Qualifier("readBulkhead") Bulkhead readBulkhead,
+            @Qualifier("writeBulkhead") Bulkhead writeBulkhead) {
+        this.readBulkhead = readBulkhead;
+        this.writeBulkhead = writeBulkhead;
+        this.readTemplate = restTemplate(http2, readBulkhead);
+        this.writeTemplate = restTemplate(http2, writeBulkhead);
+    }
+
+    private static RestTemplate restTemplate(boolean http2, Bulkhead bulkhead) {
+        RestTemplate restTemplate = new RestTemplate(
+                http2 ? http2RequestFactory() : http11RequestFactory(bulkhead.getMaxConcurrent()));
+        restTemplate.getInterceptors().add(new ServerStatusInterceptor());
+        // RestTemplate registers a Smile converter whenever jackson-dataformat-smile is present; ask for it first
+        restTemplate.getInterceptors().add((request, body, execution) -> {
+            request.getHeaders().setAccept(PREFERRED_ACCEPT);
+            return execution.execute(request, body);
+        });
+        return restTemplate;
+    }
+
+    /**
+     * Cleartext HTTP/2 through the JDK client: concurrent calls share one multiplexed connection instead of each
+     * holding a pooled one. A server that refuses the h2c upgrade is spoken to over HTTP/1.1. Each request gets the
+     * remaining time of the caller's {@link UpstreamTimeouts.Deadline}. Each bulkhead builds its own client, so reads
+     * and writes never share a connection.
+     */
+    private static ClientHttpRequestFactory http2RequestFactory() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(3000)) // TCP connect
+                .build();
+        return (uri, httpMethod) -> {
+            // The factory only carries settings, so one per request is cheap; the client is shared
+            JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+            requestFactory.setReadTimeout(UpstreamTimeouts.currentTimeout(DEFAULT_RESPONSE_TIMEOUT));
+            return requestFactory.createRequest(uri, httpMethod);
+        };
+    }
+
+    private static ClientHttpRequestFactory http11RequestFactory(int maxConnections) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .build();
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(
+                HttpClients.custom().setConnectionManager(connectionManager).build());
         requestFactory.setConnectTimeout(3000); // TCP connect in milliseconds
         requestFactory.setConnectionRequestTimeout(7000); // pool wait in milliseconds
-        this.restTemplate = new RestTemplate(requestFactory);
-        this.restTemplate.getInterceptors().add(new ServerStatusInterceptor());
+        requestFactory.setHttpContextFactory((httpMethod, uri) -> {
+            Duration timeout = UpstreamTimeouts.currentTimeout(DEFAULT_RESPONSE_TIMEOUT);
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(RequestConfig.custom()
+                    .setConnectTimeout(Timeout.ofMilliseconds(Math.min(3000, timeout.toMillis())))
+                    .setConnectionRequestTimeout(Timeout.ofMilliseconds(Math.min(7000, timeout.toMillis())))
+                    .setResponseTimeout(Timeout.of(timeout))
+                    .build());
+            return context;
+        });
+        return requestFactory;
     }
 
     public <T> ResponseEntity<T> get(String url, Class<T> responseType) {
-        return restTemplate.getForEntity(url, responseType);
+        return readBulkhead.execute(() -> readTemplate.getForEntity(url, responseType));
     }
 
     public <T> ResponseEntity<T> get(String url, org.springframework.core.ParameterizedTypeReference<T> responseType) {
-        return restTemplate.exchange(url, HttpMethod.GET, null, responseType);
+        return readBulkhead.execute(() -> readTemplate.exchange(url, HttpMethod.GET, null, responseType));
+    }
+
+    /**
+     * For URLs carrying encoded user input: a {@link URI} is sent as it is, where a String URL is encoded again
+     */
+    public <T> ResponseEntity<T> get(URI url, org.springframework.core.ParameterizedTypeReference<T> responseType) {
+        return readBulkhead.execute(() -> readTemplate.exchange(url, HttpMethod.GET, null, responseType));
     }
 
     public <T> ResponseEntity<T> post(String url, Object requestBody, Class<T> responseType) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         HttpEntity<Object> entity = new HttpEntity<>(requestBody, headers);
-        return restTemplate.postForEntity(url, entity, responseType);
+        return writeBulkhead.execute(() -> writeTemplate.postForEntity(url, entity, responseType));
     }
 
     public <T> ResponseEntity<T> post(
@@ -41,11 +139,11 @@ public class RestTemplateUtil {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         HttpEntity<Object> entity = new HttpEntity<>(requestBody, headers);
-        return restTemplate.exchange(url, HttpMethod.POST, entity, responseType);
+        return writeBulkhead.execute(() -> writeTemplate.exchange(url, HttpMethod.POST, entity, responseType));
     }
 
     public <T> ResponseEntity<T> delete(
             String url, org.springframework.core.ParameterizedTypeReference<T> responseType) {
-        return restTemplate.exchange(url, HttpMethod.DELETE, null, responseType);
+        return writeBulkhead.execute(() -> writeTemplate.exchange(url, HttpMethod.DELETE, null, responseType));
     }
 }
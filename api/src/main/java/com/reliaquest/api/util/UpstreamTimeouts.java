@@ -0,0 +1,284 @@
+package com.reliaquest.api.util;
+
+import com.reliaquest.api.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.client.HttpStatusCodeException;
+
+/**
+ * Per-operation upstream timeouts that follow observed latency: {@code percentile} (p99.9 by default) of a rolling
+ * latency histogram, times {@code factor}, kept between a floor and a ceiling. Until an operation has enough samples
+ * it gets the ceiling.
+ *
+ * <p>A {@link Deadline} is taken on the request thread and also honours the caller's own budget captured by
+ * {@link RequestDeadlineFilter}, so no upstream call, hedges included, outlives what the caller is willing to wait.
+ * The HTTP clients in {@link RestTemplateUtil} read the remaining time through {@link #currentTimeout(Duration)}.
+ *
+ * @author Naveen Kumar
+ */
+@Component
+public class UpstreamTimeouts {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+    private static final int MIN_SAMPLES = 50;
+    /*
+     * The HTTP clients take their timeouts in whole milliseconds, so a timeout may fire just before the deadline.
+     */
+    private static final long EXPIRY_SLACK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final double percentile;
+    private final double factor;
+    private final long floorNanos;
+    private final long ceilingNanos;
+    private final long windowNanos;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RollingHistogram> histograms = new ConcurrentHashMap<>();
+
+    public UpstreamTimeouts(
+            @Value("${mock.api.timeouts.percentile:0.999}") double percentile,
+            @Value("${mock.api.timeouts.factor:2.0}") double factor,
+            @Value("${mock.api.timeouts.floor-ms:100}") long floorMillis,
+            @Value("${mock.api.timeouts.ceiling-ms:10000}") long ceilingMillis,
+            @Value("${mock.api.timeouts.window-seconds:60}") long windowSeconds,
+            MeterRegistry meterRegistry) {
+        if (percentile <= 0 || percentile >= 1 || factor < 1 || floorMillis <= 0 || ceilingMillis < floorMillis) {
+            throw new IllegalArgumentException(
+                    "mock.api.timeouts needs percentile in (0, 1), factor >= 1 and 0 < floor-ms <= ceiling-ms");
+        }
+        this.percentile = percentile;
+        this.factor = factor;
+        this.floorNanos = TimeUnit.MILLISECONDS.toNanos(floorMillis);
+        this.ceilingNanos = TimeUnit.MILLISECONDS.toNanos(ceilingMillis);
+        this.windowNanos = TimeUnit.SECONDS.toNanos(windowSeconds);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Default settings without a shared meter registry, for tests and callers outside the application context
+     */
+    public static UpstreamTimeouts defaults() {
+        return new UpstreamTimeouts(0.999, 2.0, 100, 10000, 60, new SimpleMeterRegistry());
+    }
+
+    /**
+     * The adaptive timeout for {@code operation}, before any caller budget is applied
+     */
+    public Duration timeoutFor(String operation) {
+        return Duration.ofNanos(adaptiveNanos(histogram(operation)));
+    }
+
+    /**
+     * Start the clock for one upstream operation. Fails fast when the caller's budget is already spent.
+     */
+    public Deadline deadline(String operation) {
+        RollingHistogram histogram = histogram(operation);
+        long now = System.nanoTime();
+        long expiresAt = now + adaptiveNanos(histogram);
+        Long callerDeadline = callerDeadline();
+        if (callerDeadline != null) {
+            if (callerDeadline - now <= 0) {
+                throw new DeadlineExceededException("Caller deadline passed before calling upstream " + operation);
+            }
+            expiresAt = Math.min(expiresAt, callerDeadline);
+        }
+        return new Deadline(histogram, expiresAt);
+    }
+
+    /**
+     * Remaining time of the deadline bound to the calling thread, or {@code fallback} outside of one
+     */
+    public static Duration currentTimeout(Duration fallback) {
+        Deadline deadline = CURRENT.get();
+        return deadline == null ? fallback : deadline.remaining();
+    }
+
+    private long adaptiveNanos(RollingHistogram histogram) {
+        if (histogram.count() < MIN_SAMPLES) {
+            return ceilingNanos;
+        }
+        long scaled = (long) Math.min(Long.MAX_VALUE, histogram.percentileNanos(percentile) * factor);
+        return Math.max(floorNanos, Math.min(ceilingNanos, scaled));
+    }
+
+    private RollingHistogram histogram(String operation) {
+        return histograms.computeIfAbsent(operation, name -> {
+            RollingHistogram histogram = new RollingHistogram(windowNanos);
+            Gauge.builder("upstream.timeout", histogram, h -> adaptiveNanos(h) / 1_000_000.0)
+                    .tag("operation", name)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            return histogram;
+        });
+    }
+
+    private static Long callerDeadline() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object deadline =
+                attributes.getAttribute(RequestDeadlineFilter.DEADLINE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return deadline instanceof Long nanos ? nanos : null;
+    }
+
+    /**
+     * Absolute deadline of one upstream operation. It may be used from any thread, so hedged attempts share it.
+     */
+    public static final class Deadline {
+
+        private final RollingHistogram histogram;
+        private final long expiresAtNanos;
+
+        private Deadline(RollingHistogram histogram, long expiresAtNanos) {
+            this.histogram = histogram;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        public Duration remaining() {
+            return Duration.ofNanos(Math.max(TimeUnit.MILLISECONDS.toNanos(1), expiresAtNanos - System.nanoTime()));
+        }
+
+        /**
+         * Run {@code call} with this deadline as the HTTP clients' timeout and record its latency. Error responses
+         * count as samples, and so do failures that ran into the deadline, at the time they were cut off: leaving them
+         * out would hide exactly the slow calls that should raise the timeout. Failures well before the deadline, such
+         * as a refused connection, say nothing about latency and are not recorded.
+         */
+        public <T> T call(Supplier<T> call) {
+            Deadline previous = CURRENT.get();
+            CURRENT.set(this);
+            long started = System.nanoTime();
+            try {
+                T result = call.get();
+                histogram.record(System.nanoTime() - started);
+                return result;
+            } catch (HttpStatusCodeException e) {
+                histogram.record(System.nanoTime() - started);
+                throw e;
+            } catch (RuntimeException e) {
+                long now = System.nanoTime();
+                if (expiresAtNanos - now <= EXPIRY_SLACK_NANOS) {
+                    histogram.record(now - started);
+                }
+                throw e;
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        }
+    }
+
+    /**
+     * Latency histogram over roughly the last one to two windows, with log-linear buckets (eight per power of two,
+     * about 12% resolution) of microseconds. Recording is lock-free; only switching windows synchronizes.
+     */
+    static final class RollingHistogram {
+
+        private static final int SUB_BUCKETS = 8;
+        private static final int MAX_EXPONENT = 40;
+        private static final int BUCKETS = (MAX_EXPONENT - 1) * SUB_BUCKETS;
+
+        private final long windowNanos;
+        private volatile Window current;
+        private volatile Window previous;
+
+        RollingHistogram(long windowNanos) {
+            this.windowNanos = windowNanos;
+            this.current = new Window(System.nanoTime());
+            this.previous = new Window(System.nanoTime());
+        }
+
+        void record(long latencyNanos) {
+            long micros = Math.max(0, Math.min((1L << MAX_EXPONENT) - 1, latencyNanos / 1000));
+            window().counts.incrementAndGet(bucketOf(micros));
+        }
+
+        long count() {
+            Window current = window();
+            Window previous = this.previous;
+            long count = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                count += current.counts.get(i) + previous.counts.get(i);
+            }
+            return count;
+        }
+
+        long percentileNanos(double percentile) {
+            Window current = window();
+            Window previous = this.previous;
+            long[] merged = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                merged[i] = current.counts.get(i) + previous.counts.get(i);
+                total += merged[i];
+            }
+            long rank = (long) Math.ceil(percentile * total);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += merged[i];
+                if (seen >= rank && merged[i] > 0) {
+                    return upperBoundMicros(i) * 1000;
+                }
+            }
+            return 0;
+        }
+
+        private Window window() {
+            Window window = current;
+            long now = System.nanoTime();
+            if (now - window.startedNanos < windowNanos) {
+                return window;
+            }
+            synchronized (this) {
+                if (current == window) {
+                    // After a quiet spell longer than a window the last window is stale too
+                    previous = now - window.startedNanos < 2 * windowNanos ? window : new Window(now);
+                    current = new Window(now);
+                }
+                return current;
+            }
+        }
+
+        static int bucketOf(long micros) {
+            if (micros < SUB_BUCKETS) {
+                return (int) micros;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(micros);
+            int top = (int) (micros >> (exponent - 3));
+            return (exponent - 2) * SUB_BUCKETS + (top - SUB_BUCKETS);
+        }
+
+        static long upperBoundMicros(int bucket) {
+            if (bucket < SUB_BUCKETS) {
+                return bucket;
+            }
+            int exponent = bucket / SUB_BUCKETS + 2;
+            int top = bucket % SUB_BUCKETS + SUB_BUCKETS;
+            return ((long) (top + 1) << (exponent - 3)) - 1;
+        }
+
+        private static final class Window {
+
+            private final long startedNanos;
+            private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+            private Window(long startedNanos) {
+                this.startedNanos = startedNanos;
+            }
+        }
+    }
+}
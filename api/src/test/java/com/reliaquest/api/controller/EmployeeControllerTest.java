@@ -1,18 +1,30 @@
 package com.reliaquest.api.controller;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.dto.EmployeeStatsDto;
+import com.reliaquest.api.dto.WriteOperation;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.MockServerUnavailableException;
 import com.reliaquest.api.exception.RateLimitExceededException;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.ResponseBytesCache;
+import com.reliaquest.api.service.WriteQueueService;
+import com.reliaquest.api.util.FieldProjection;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -29,6 +42,7 @@ import org.springframework.test.web.servlet.MockMvc;
  * @author Naveen Kumar
  */
 @WebMvcTest(EmployeeController.class)
+@Import({FieldProjection.class, ResponseBytesCache.class})
 @DisplayName("EmployeeController Integration Tests")
 class EmployeeControllerTest {
 
@@ -38,6 +52,9 @@ class EmployeeControllerTest {
     @MockBean
     private EmployeeService employeeService;
 
+    @MockBean
+    private WriteQueueService writeQueueService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -88,6 +105,46 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$[0].salary").value(50000));
     }
 
+    @Test
+    @DisplayName("Should use fuzzy search when fuzzy=1 is given")
+    void testSearchEmployeesByName_Fuzzy() throws Exception {
+        // Given
+        when(employeeService.searchEmployeesByNameFuzzy("Jhon")).thenReturn(List.of(testEmployee));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/search/{searchString}", "Jhon").param("fuzzy", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("John Doe"));
+        verify(employeeService, never()).searchEmployeesByName(anyString());
+    }
+
+    @Test
+    @DisplayName("Should serialize only the requested fields")
+    void testGetAllEmployees_FieldProjection() throws Exception {
+        // Given
+        when(employeeService.getAllEmployees()).thenReturn(List.of(testEmployee));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee").param("fields", "id, name"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].id").value(testEmployeeId.toString()))
+                .andExpect(jsonPath("$[0].name").value("John Doe"))
+                .andExpect(jsonPath("$[0].salary").doesNotExist())
+                .andExpect(jsonPath("$[0].email").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an unknown field without calling the service")
+    void testGetEmployeeById_UnknownField() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/{id}", testEmployeeId).param("fields", "name,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(containsString("password")));
+        verify(employeeService, never()).getEmployeeById(any());
+    }
+
     @Test
     @DisplayName("Should successfully get employee by ID")
     void testGetEmployeeById_Success() throws Exception {
@@ -140,6 +197,25 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$").value(75000));
     }
 
+    @Test
+    @DisplayName("Should successfully get employee statistics")
+    void testGetEmployeeStats_Success() throws Exception {
+        // Given
+        EmployeeStatsDto.Summary age =
+                new EmployeeStatsDto.Summary(1, 30.0, 30.0, 30.0, Map.of("p50", 30.0), List.of());
+        when(employeeService.getEmployeeStats())
+                .thenReturn(new EmployeeStatsDto(
+                        4, 0.01, new EmployeeStatsDto.Distribution(1, null, age), Map.of()));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(4))
+                .andExpect(jsonPath("$.relativeError").value(0.01))
+                .andExpect(jsonPath("$.overall.age.percentiles.p50").value(30.0))
+                .andExpect(jsonPath("$.overall.salary").doesNotExist());
+    }
+
     @Test
     @DisplayName("Should successfully get top 10 highest earning employee names")
     void testGetTopTenHighestEarningEmployeeNames_Success() throws Exception {
@@ -178,6 +254,90 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.salary").value(45000));
     }
 
+    @Test
+    @DisplayName("Should queue a create and answer 202 with the operation when async writes are preferred")
+    void testCreateEmployee_RespondAsync() throws Exception {
+        // Given
+        EmployeeDto inputEmployee = createTestEmployee(null, "New Employee", 45000);
+        WriteOperation operation = new WriteOperation(UUID.randomUUID(), inputEmployee, Instant.now());
+
+        when(writeQueueService.isEnabled()).thenReturn(true);
+        when(writeQueueService.submit(any(EmployeeDto.class))).thenReturn(operation);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/employee")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(inputEmployee)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v1/employee/operations/" + operation.getId()))
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(jsonPath("$.id").value(operation.getId().toString()))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+        verify(employeeService, never()).createEmployee(any(EmployeeDto.class));
+    }
+
+    @Test
+    @DisplayName("Should honour respond-async when other preferences come with it")
+    void testCreateEmployee_RespondAsyncAmongPreferences() throws Exception {
+        // Given
+        EmployeeDto inputEmployee = createTestEmployee(null, "New Employee", 45000);
+        WriteOperation operation = new WriteOperation(UUID.randomUUID(), inputEmployee, Instant.now());
+
+        when(writeQueueService.isEnabled()).thenReturn(true);
+        when(writeQueueService.submit(any(EmployeeDto.class))).thenReturn(operation);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/employee")
+                        .header("Prefer", "Respond-Async, wait=10")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(inputEmployee)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Preference-Applied", "respond-async"));
+        verify(employeeService, never()).createEmployee(any(EmployeeDto.class));
+    }
+
+    @Test
+    @DisplayName("Should create synchronously when async writes are preferred but disabled")
+    void testCreateEmployee_RespondAsyncDisabled() throws Exception {
+        // Given
+        EmployeeDto inputEmployee = createTestEmployee(null, "New Employee", 45000);
+        EmployeeDto createdEmployee = createTestEmployee(testEmployeeId, "New Employee", 45000);
+
+        when(writeQueueService.isEnabled()).thenReturn(false);
+        when(employeeService.createEmployee(any(EmployeeDto.class))).thenReturn(createdEmployee);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/employee")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(inputEmployee)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(testEmployeeId.toString()));
+    }
+
+    @Test
+    @DisplayName("Should report a write operation's status and 404 for an unknown one")
+    void testGetWriteOperation() throws Exception {
+        // Given
+        WriteOperation operation =
+                new WriteOperation(UUID.randomUUID(), createTestEmployee(null, "New Employee", 45000), Instant.now());
+        operation.setStatus(WriteOperation.Status.SUCCEEDED);
+        operation.setResult(testEmployee);
+        UUID unknownId = UUID.randomUUID();
+
+        when(writeQueueService.getOperation(operation.getId())).thenReturn(Optional.of(operation));
+        when(writeQueueService.getOperation(unknownId)).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/operations/{operationId}", operation.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.result.id").value(testEmployeeId.toString()));
+        mockMvc.perform(get("/api/v1/employee/operations/{operationId}", unknownId))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("Should return 400 for invalid employee data")
     void testCreateEmployee_InvalidData() throws Exception {
@@ -298,14 +458,14 @@ class EmployeeControllerTest {
     }
 
     @Test
-    @DisplayName("Should handle cache bypass header")
-    void testGetAllEmployees_WithCacheBypassHeader() throws Exception {
+    @DisplayName("Should accept a Cache-Control request header")
+    void testGetAllEmployees_WithCacheControlHeader() throws Exception {
         // Given
         List<EmployeeDto> employees = Arrays.asList(testEmployee);
         when(employeeService.getAllEmployees()).thenReturn(employees);
 
         // When & Then
-        mockMvc.perform(get("/api/v1/employee").header("X-Cache-Bypass", "true"))
+        mockMvc.perform(get("/api/v1/employee").header("Cache-Control", "no-cache"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").isArray())
@@ -9,6 +9,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.controller.EmployeeController;
 import com.reliaquest.api.dto.EmployeeDto;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.ResponseBytesCache;
+import com.reliaquest.api.service.WriteQueueService;
+import com.reliaquest.api.util.FieldProjection;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -25,6 +29,7 @@ import org.springframework.test.web.servlet.MockMvc;
  * @author Naveen Kumar
  */
 @WebMvcTest(EmployeeController.class)
+@Import({FieldProjection.class, ResponseBytesCache.class})
 @DisplayName("GlobalExceptionHandler Tests")
 class GlobalExceptionHandlerTest {
 
@@ -34,6 +39,9 @@ class GlobalExceptionHandlerTest {
     @MockBean
     private EmployeeService employeeService;
 
+    @MockBean
+    private WriteQueueService writeQueueService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -106,6 +114,49 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.message").value("Mock server is unavailable"));
     }
 
+    @Test
+    @DisplayName("Should handle DeadlineExceededException with 504 status")
+    void testHandleDeadlineExceededException() throws Exception {
+        // Given
+        when(employeeService.getAllEmployees())
+                .thenThrow(new DeadlineExceededException("Caller deadline passed before calling upstream"));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.error").value("Request deadline exceeded"))
+                .andExpect(jsonPath("$.message").value("Caller deadline passed before calling upstream"));
+    }
+
+    @Test
+    @DisplayName("Should handle BulkheadFullException with 503 status and Retry-After")
+    void testHandleBulkheadFullException() throws Exception {
+        // Given
+        when(employeeService.getAllEmployees())
+                .thenThrow(new BulkheadFullException("Upstream read bulkhead is full: 64 running, 128 queued"));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.error").value("Too many concurrent upstream requests. Please try again later."))
+                .andExpect(jsonPath("$.message").value("Upstream read bulkhead is full: 64 running, 128 queued"));
+    }
+
+    @Test
+    @DisplayName("Should handle NotCachedException with 504 status")
+    void testHandleNotCachedException() throws Exception {
+        // Given
+        when(employeeService.getAllEmployees())
+                .thenThrow(new NotCachedException("No cached employees response satisfies Cache-Control"));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee").header("Cache-Control", "only-if-cached"))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.error").value("No cached response available"));
+    }
+
     @Test
     @DisplayName("Should handle IllegalArgumentException with 400 status")
     void testHandleIllegalArgumentException() throws Exception {
@@ -3,6 +3,7 @@ package com.reliaquest.api.service;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.util.RequestCacheControl;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -64,18 +65,16 @@ class CacheIntegrationTest {
     }
 
     @Test
-    @DisplayName("Should bypass cache when X-Cache-Bypass header is set to true")
-    void testCacheBypass() {
+    @DisplayName("Should apply no Cache-Control directives outside a request")
+    void testCacheControlOutsideRequest() {
         // Given
-        // This test would require setting up request context with bypass header
-        // For now, we'll test the shouldBypassCache method directly
+        // Without a request context there is no Cache-Control header to honour
 
         // When
-        boolean shouldBypass = employeeService.shouldBypassCache();
+        RequestCacheControl cacheControl = RequestCacheControl.current();
 
         // Then
-        // Without request context, should return false
-        assertFalse(shouldBypass);
+        assertEquals(RequestCacheControl.DEFAULT, cacheControl);
     }
 
     @Test
@@ -125,8 +124,8 @@ class CacheIntegrationTest {
         assertNotNull(cacheManager.getCache("employees"));
         assertNotNull(cacheManager.getCache("employeeSearch"));
         assertNotNull(cacheManager.getCache("employeeById"));
-        assertNotNull(cacheManager.getCache("highestSalary"));
-        assertNotNull(cacheManager.getCache("top10HighestEarningEmployeeNames"));
+        assertNotNull(cacheManager.getCache("employeeFuzzySearch"));
+        assertNotNull(cacheManager.getCache("employeeAggregates"));
     }
 
     @Test
@@ -140,7 +139,7 @@ class CacheIntegrationTest {
 
         // Then
         // Verify that null/empty results are not cached
-        // This is handled by the @Cacheable unless condition
+        // This is handled by the ReadCache cacheable predicate
         assertNotNull(result);
     }
 
@@ -0,0 +1,100 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.EmployeeDto;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for EmployeeInterner
+ *
+ * @author Naveen Kumar
+ */
+@DisplayName("EmployeeInterner Unit Tests")
+class EmployeeInternerTest {
+
+    private final EmployeeInterner employeeInterner = new EmployeeInterner();
+    private final UUID employeeId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should return the same instance for an unchanged employee")
+    void testIntern_ReusesUnchangedEmployee() {
+        // Given
+        EmployeeDto first = createEmployeeDto(employeeId, "John Doe", 50000, "Developer");
+        EmployeeDto second = createEmployeeDto(employeeId, "John Doe", 50000, "Developer");
+
+        // When
+        CachedEmployee interned = employeeInterner.intern(first);
+        CachedEmployee reinterned = employeeInterner.intern(second);
+
+        // Then
+        assertSame(interned, reinterned);
+        assertEquals("John Doe", interned.name());
+        assertEquals(50000, interned.salary());
+    }
+
+    @Test
+    @DisplayName("Should replace the instance when the employee's data changes")
+    void testIntern_ReplacesChangedEmployee() {
+        // Given
+        CachedEmployee interned =
+                employeeInterner.intern(createEmployeeDto(employeeId, "John Doe", 50000, "Developer"));
+
+        // When
+        CachedEmployee raised = employeeInterner.intern(createEmployeeDto(employeeId, "John Doe", 60000, "Developer"));
+
+        // Then
+        assertNotSame(interned, raised);
+        assertEquals(50000, interned.salary());
+        assertEquals(60000, raised.salary());
+        assertSame(raised, employeeInterner.intern(createEmployeeDto(employeeId, "John Doe", 60000, "Developer")));
+    }
+
+    @Test
+    @DisplayName("Should share one title string between employees")
+    void testIntern_SharesTitles() {
+        // Given
+        EmployeeDto john = createEmployeeDto(employeeId, "John Doe", 50000, new String("Developer"));
+        EmployeeDto jane = createEmployeeDto(UUID.randomUUID(), "Jane Smith", 60000, new String("Developer"));
+
+        // When
+        CachedEmployee internedJohn = employeeInterner.intern(john);
+        CachedEmployee internedJane = employeeInterner.intern(jane);
+
+        // Then
+        assertNotSame(john.getTitle(), jane.getTitle());
+        assertSame(internedJohn.title(), internedJane.title());
+    }
+
+    @Test
+    @DisplayName("Should keep an interned employee apart from its input and from the copies handed out")
+    void testIntern_IsolatedFromChanges() {
+        // Given
+        EmployeeDto input = createEmployeeDto(employeeId, "John Doe", 50000, "Developer");
+        CachedEmployee interned = employeeInterner.intern(input);
+
+        // When
+        EmployeeDto copy = interned.toDto();
+        copy.setName("Jane Smith");
+        input.setTitle("Manager");
+
+        // Then
+        assertEquals("John Doe", interned.name());
+        assertEquals("Developer", interned.title());
+        assertNotSame(copy, interned.toDto());
+        assertEquals(createEmployeeDto(employeeId, "John Doe", 50000, "Developer"), interned.toDto());
+    }
+
+    // Helper methods
+    private EmployeeDto createEmployeeDto(UUID id, String name, Integer salary, String title) {
+        EmployeeDto employee = new EmployeeDto();
+        employee.setId(id);
+        employee.setName(name);
+        employee.setSalary(salary);
+        employee.setAge(30);
+        employee.setTitle(title);
+        return employee;
+    }
+}
@@ -6,22 +6,31 @@ import static org.mockito.Mockito.*;
 
 import com.reliaquest.api.dto.ApiResponse;
 import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.dto.EmployeeStatsDto;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.MockServerUnavailableException;
+import com.reliaquest.api.exception.NotCachedException;
 import com.reliaquest.api.exception.RateLimitExceededException;
 import com.reliaquest.api.model.ServerCreateEmployeeDto;
+import com.reliaquest.api.model.ServerEmployeeAggregatesDto;
 import com.reliaquest.api.model.ServerEmployeeDto;
+import com.reliaquest.api.util.HedgedRequestExecutor;
 import com.reliaquest.api.util.RestTemplateUtil;
+import com.reliaquest.api.util.UpstreamTimeouts;
 import jakarta.servlet.http.HttpServletRequest;
+import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
 import org.springframework.core.ParameterizedTypeReference;
@@ -54,6 +63,18 @@ class EmployeeServiceTest {
     @Mock
     private HttpServletRequest httpServletRequest;
 
+    @Spy
+    private HedgedRequestExecutor hedgedRequestExecutor = HedgedRequestExecutor.disabled();
+
+    @Spy
+    private UpstreamTimeouts upstreamTimeouts = UpstreamTimeouts.defaults();
+
+    @Spy
+    private ReadCache readCache = ReadCache.inMemory();
+
+    @Spy
+    private EmployeeInterner employeeInterner = new EmployeeInterner();
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -86,7 +107,7 @@ class EmployeeServiceTest {
         when(modelMapper.map(serverEmployee1, EmployeeDto.class)).thenReturn(employeeDto1);
         when(modelMapper.map(serverEmployee2, EmployeeDto.class)).thenReturn(employeeDto2);
         when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
-        when(httpServletRequest.getHeader("X-Cache-Bypass")).thenReturn(null);
+        when(httpServletRequest.getHeader("Cache-Control")).thenReturn(null);
 
         // When
         List<EmployeeDto> result = employeeService.getAllEmployees();
@@ -100,8 +121,33 @@ class EmployeeServiceTest {
     }
 
     @Test
-    @DisplayName("Should bypass cache when X-Cache-Bypass header is true")
-    void testGetAllEmployees_WithCacheBypass() {
+    @DisplayName("Should answer a repeated read from the cache")
+    void testGetAllEmployees_ServedFromCache() {
+        // Given
+        ServerEmployeeDto serverEmployee = createServerEmployee(testEmployeeId, testEmployeeName, 50000);
+        EmployeeDto employeeDto = createEmployeeDto(testEmployeeId, testEmployeeName, 50000);
+
+        ApiResponse<List<ServerEmployeeDto>> apiResponse = new ApiResponse<>();
+        apiResponse.setData(Arrays.asList(serverEmployee));
+
+        when(restTemplateUtil.get(anyString(), any(ParameterizedTypeReference.class)))
+                .thenReturn(new ResponseEntity<>(apiResponse, HttpStatus.OK));
+        when(modelMapper.map(serverEmployee, EmployeeDto.class)).thenReturn(employeeDto);
+        when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
+        when(httpServletRequest.getHeader("Cache-Control")).thenReturn(null, "max-age=60");
+
+        // When
+        List<EmployeeDto> first = employeeService.getAllEmployees();
+        List<EmployeeDto> second = employeeService.getAllEmployees();
+
+        // Then
+        assertEquals(first, second);
+        verify(restTemplateUtil, times(1)).get(anyString(), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    @DisplayName("Should go to the mock API Server for Cache-Control: no-cache even when a response is cached")
+    void testGetAllEmployees_WithNoCache() {
         // Given
         ServerEmployeeDto serverEmployee = createServerEmployee(testEmployeeId, testEmployeeName, 50000);
         EmployeeDto employeeDto = createEmployeeDto(testEmployeeId, testEmployeeName, 50000);
@@ -113,16 +159,27 @@ class EmployeeServiceTest {
                 .thenReturn(new ResponseEntity<>(apiResponse, HttpStatus.OK));
         when(modelMapper.map(serverEmployee, EmployeeDto.class)).thenReturn(employeeDto);
         when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
-        when(httpServletRequest.getHeader("X-Cache-Bypass")).thenReturn("true");
+        when(httpServletRequest.getHeader("Cache-Control")).thenReturn(null, "no-cache");
 
         // When
+        employeeService.getAllEmployees();
         List<EmployeeDto> result = employeeService.getAllEmployees();
 
         // Then
-        assertNotNull(result);
         assertEquals(1, result.size());
-        assertTrue(employeeService.shouldBypassCache());
-        verify(restTemplateUtil, times(1)).get(anyString(), any(ParameterizedTypeReference.class));
+        verify(restTemplateUtil, times(2)).get(anyString(), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    @DisplayName("Should throw NotCachedException for Cache-Control: only-if-cached without a cached response")
+    void testGetEmployeeById_OnlyIfCachedMiss() {
+        // Given
+        when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
+        when(httpServletRequest.getHeader("Cache-Control")).thenReturn("only-if-cached");
+
+        // When & Then
+        assertThrows(NotCachedException.class, () -> employeeService.getEmployeeById(testEmployeeId));
+        verify(restTemplateUtil, never()).get(anyString(), any(ParameterizedTypeReference.class));
     }
 
     @Test
@@ -135,7 +192,7 @@ class EmployeeServiceTest {
         when(restTemplateUtil.get(anyString(), any(ParameterizedTypeReference.class)))
                 .thenReturn(new ResponseEntity<>(apiResponse, HttpStatus.OK));
         when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
-        when(httpServletRequest.getHeader("X-Cache-Bypass")).thenReturn(null);
+        when(httpServletRequest.getHeader("Cache-Control")).thenReturn(null);
 
         // When
         List<EmployeeDto> result = employeeService.getAllEmployees();
@@ -152,7 +209,7 @@ class EmployeeServiceTest {
         when(restTemplateUtil.get(anyString(), any(ParameterizedTypeReference.class)))
                 .thenThrow(new ResourceAccessException("Connection refused"));
         when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
-        when(httpServletRequest.getHeader("X-Cache-Bypass")).thenReturn(null);
+        when(httpServletRequest.getHeader("Cache-Control")).thenReturn(null);
 
         // When & Then
         MockServerUnavailableException exception =
@@ -169,7 +226,7 @@ class EmployeeServiceTest {
         when(restTemplateUtil.get(anyString(), any(ParameterizedTypeReference.class)))
                 .thenThrow(rateLimitException);
         when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
-        when(httpServletRequest.getHeader("X-Cache-Bypass")).thenReturn(null);
+        when(httpServletRequest.getHeader("Cache-Control")).thenReturn(null);
 
         // When & Then
         RateLimitExceededException exception =
@@ -179,26 +236,23 @@ class EmployeeServiceTest {
     }
 
     @Test
-    @DisplayName("Should successfully search employees by name")
+    @DisplayName("Should push name search down to the mock API Server query endpoint")
     void testSearchEmployeesByName_Success() {
         // Given
         String searchString = "John";
-        ServerEmployeeDto serverEmployee1 = createServerEmployee(testEmployeeId, "John Doe", 50000);
-        ServerEmployeeDto serverEmployee2 = createServerEmployee(UUID.randomUUID(), "Jane Smith", 60000);
-        List<ServerEmployeeDto> serverEmployees = Arrays.asList(serverEmployee1, serverEmployee2);
-
-        EmployeeDto employeeDto1 = createEmployeeDto(testEmployeeId, "John Doe", 50000);
-        EmployeeDto employeeDto2 = createEmployeeDto(UUID.randomUUID(), "Jane Smith", 60000);
+        ServerEmployeeDto serverEmployee = createServerEmployee(testEmployeeId, "John Doe", 50000);
+        EmployeeDto employeeDto = createEmployeeDto(testEmployeeId, "John Doe", 50000);
 
         ApiResponse<List<ServerEmployeeDto>> apiResponse = new ApiResponse<>();
-        apiResponse.setData(serverEmployees);
+        apiResponse.setData(Arrays.asList(serverEmployee));
 
-        when(restTemplateUtil.get(anyString(), any(ParameterizedTypeReference.class)))
+        when(restTemplateUtil.get(
+                        eq(URI.create(mockApiBaseUrl + "/api/v1/employee/query?name=John")),
+                        any(ParameterizedTypeReference.class)))
                 .thenReturn(new ResponseEntity<>(apiResponse, HttpStatus.OK));
-        when(modelMapper.map(serverEmployee1, EmployeeDto.class)).thenReturn(employeeDto1);
-        when(modelMapper.map(serverEmployee2, EmployeeDto.class)).thenReturn(employeeDto2);
+        when(modelMapper.map(serverEmployee, EmployeeDto.class)).thenReturn(employeeDto);
         when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
-        when(httpServletRequest.getHeader("X-Cache-Bypass")).thenReturn(null);
+        when(httpServletRequest.getHeader("Cache-Control")).thenReturn(null);
 
         // When
         List<EmployeeDto> result = employeeService.searchEmployeesByName(searchString);
@@ -207,32 +261,137 @@ class EmployeeServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("John Doe", result.get(0).getName());
+        verify(restTemplateUtil, never())
+                .get(eq(mockApiBaseUrl + "/api/v1/employee"), any(ParameterizedTypeReference.class));
     }
 
     @Test
-    @DisplayName("Should perform case-insensitive search")
-    void testSearchEmployeesByName_CaseInsensitive() {
+    @DisplayName("Should answer case variants and extended queries from one cached search")
+    void testSearchEmployeesByName_RefinesCachedSearch() {
         // Given
-        String searchString = "john";
-        ServerEmployeeDto serverEmployee = createServerEmployee(testEmployeeId, "John Doe", 50000);
-        EmployeeDto employeeDto = createEmployeeDto(testEmployeeId, "John Doe", 50000);
+        UUID johnnyId = UUID.randomUUID();
+        ServerEmployeeDto john = createServerEmployee(testEmployeeId, "John Doe", 50000);
+        ServerEmployeeDto johnny = createServerEmployee(johnnyId, "Johnny Cash", 60000);
 
         ApiResponse<List<ServerEmployeeDto>> apiResponse = new ApiResponse<>();
-        apiResponse.setData(Arrays.asList(serverEmployee));
+        apiResponse.setData(Arrays.asList(john, johnny));
 
-        when(restTemplateUtil.get(anyString(), any(ParameterizedTypeReference.class)))
+        when(restTemplateUtil.get(
+                        eq(URI.create(mockApiBaseUrl + "/api/v1/employee/query?name=Joh")),
+                        any(ParameterizedTypeReference.class)))
                 .thenReturn(new ResponseEntity<>(apiResponse, HttpStatus.OK));
-        when(modelMapper.map(serverEmployee, EmployeeDto.class)).thenReturn(employeeDto);
+        when(modelMapper.map(john, EmployeeDto.class)).thenReturn(createEmployeeDto(testEmployeeId, "John Doe", 50000));
+        when(modelMapper.map(johnny, EmployeeDto.class)).thenReturn(createEmployeeDto(johnnyId, "Johnny Cash", 60000));
         when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
-        when(httpServletRequest.getHeader("X-Cache-Bypass")).thenReturn(null);
+        when(httpServletRequest.getHeader("Cache-Control")).thenReturn(null);
 
         // When
-        List<EmployeeDto> result = employeeService.searchEmployeesByName(searchString);
+        List<EmployeeDto> joh = employeeService.searchEmployeesByName("Joh");
+        List<EmployeeDto> upperJoh = employeeService.searchEmployeesByName("JOH");
+        List<EmployeeDto> johnn = employeeService.searchEmployeesByName("johnn");
 
         // Then
-        assertNotNull(result);
-        assertEquals(1, result.size());
+        assertEquals(2, joh.size());
+        assertEquals(joh, upperJoh);
+        assertEquals(1, johnn.size());
+        assertEquals(joh.get(1), johnn.get(0));
+        verify(restTemplateUtil, times(1)).get(any(URI.class), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    @DisplayName("Should hand out copies of the employee the roster and by-id caches share")
+    void testGetEmployeeById_CopiesSharedEmployee() {
+        // Given
+        ServerEmployeeDto serverEmployee = createServerEmployee(testEmployeeId, testEmployeeName, 50000);
+
+        ApiResponse<List<ServerEmployeeDto>> listResponse = new ApiResponse<>();
+        listResponse.setData(List.of(serverEmployee));
+        ApiResponse<ServerEmployeeDto> byIdResponse = new ApiResponse<>();
+        byIdResponse.setData(serverEmployee);
+
+        when(restTemplateUtil.get(eq(mockApiBaseUrl + "/api/v1/employee"), any(ParameterizedTypeReference.class)))
+                .thenReturn(new ResponseEntity<>(listResponse, HttpStatus.OK));
+        when(restTemplateUtil.get(
+                        eq(mockApiBaseUrl + "/api/v1/employee/" + testEmployeeId),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(new ResponseEntity<>(byIdResponse, HttpStatus.OK));
+        when(modelMapper.map(serverEmployee, EmployeeDto.class))
+                .thenAnswer(invocation -> createEmployeeDto(testEmployeeId, testEmployeeName, 50000));
+        when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
+        when(httpServletRequest.getHeader("Cache-Control")).thenReturn(null);
+
+        // When
+        EmployeeDto listed = employeeService.getAllEmployees().get(0);
+        EmployeeDto byId = employeeService.getEmployeeById(testEmployeeId);
+
+        // Then
+        assertEquals(listed, byId);
+        assertNotSame(listed, byId);
+        byId.setSalary(1);
+        listed.setName("Changed");
+        assertEquals(50000, employeeService.getEmployeeById(testEmployeeId).getSalary());
+        assertEquals(testEmployeeName, employeeService.getAllEmployees().get(0).getName());
+        verify(modelMapper, times(2)).map(serverEmployee, EmployeeDto.class);
+    }
+
+    @Test
+    @DisplayName("Should fetch fuzzy searches from the fuzzy endpoint and keep their ranking")
+    void testSearchEmployeesByNameFuzzy_KeepsRanking() {
+        // Given
+        UUID jonId = UUID.randomUUID();
+        ServerEmployeeDto john = createServerEmployee(testEmployeeId, "John Doe", 50000);
+        ServerEmployeeDto jon = createServerEmployee(jonId, "Jon Snow", 60000);
+
+        ApiResponse<List<ServerEmployeeDto>> apiResponse = new ApiResponse<>();
+        apiResponse.setData(Arrays.asList(john, jon));
+
+        when(restTemplateUtil.get(
+                        eq(URI.create(mockApiBaseUrl + "/api/v1/employee/fuzzy?name=Jhon")),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(new ResponseEntity<>(apiResponse, HttpStatus.OK));
+        when(modelMapper.map(john, EmployeeDto.class)).thenReturn(createEmployeeDto(testEmployeeId, "John Doe", 50000));
+        when(modelMapper.map(jon, EmployeeDto.class)).thenReturn(createEmployeeDto(jonId, "Jon Snow", 60000));
+        when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
+        when(httpServletRequest.getHeader("Cache-Control")).thenReturn(null);
+
+        // When
+        List<EmployeeDto> result = employeeService.searchEmployeesByNameFuzzy("Jhon");
+        List<EmployeeDto> cached = employeeService.searchEmployeesByNameFuzzy("jhon");
+
+        // Then
+        assertEquals(2, result.size());
         assertEquals("John Doe", result.get(0).getName());
+        assertEquals("Jon Snow", result.get(1).getName());
+        assertEquals(result, cached);
+        verify(restTemplateUtil, times(1)).get(any(URI.class), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    @DisplayName("Should encode the search string exactly once in the query URL")
+    void testSearchEmployeesByName_EncodesSearchString() {
+        // Given
+        ApiResponse<List<ServerEmployeeDto>> apiResponse = new ApiResponse<>();
+        apiResponse.setData(List.of());
+
+        when(restTemplateUtil.get(any(URI.class), any(ParameterizedTypeReference.class)))
+                .thenReturn(new ResponseEntity<>(apiResponse, HttpStatus.OK));
+        when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
+        when(httpServletRequest.getHeader("Cache-Control")).thenReturn(null);
+
+        // When
+        List<EmployeeDto> result = employeeService.searchEmployeesByName("John D");
+        employeeService.searchEmployeesByNameFuzzy("Zo\u00eb A+B&C");
+
+        // Then
+        assertTrue(result.isEmpty());
+        ArgumentCaptor<URI> urls = ArgumentCaptor.forClass(URI.class);
+        verify(restTemplateUtil, times(2)).get(urls.capture(), any(ParameterizedTypeReference.class));
+        assertEquals(
+                mockApiBaseUrl + "/api/v1/employee/query?name=John%20D",
+                urls.getAllValues().get(0).toString());
+        assertEquals(
+                mockApiBaseUrl + "/api/v1/employee/fuzzy?name=Zo%C3%AB%20A%2BB%26C",
+                urls.getAllValues().get(1).toString());
     }
 
     @Test
@@ -249,7 +408,7 @@ class EmployeeServiceTest {
                 .thenReturn(new ResponseEntity<>(apiResponse, HttpStatus.OK));
         when(modelMapper.map(serverEmployee, EmployeeDto.class)).thenReturn(employeeDto);
         when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
-        when(httpServletRequest.getHeader("X-Cache-Bypass")).thenReturn(null);
+        when(httpServletRequest.getHeader("Cache-Control")).thenReturn(null);
 
         // When
         EmployeeDto result = employeeService.getEmployeeById(testEmployeeId);
@@ -270,7 +429,7 @@ class EmployeeServiceTest {
         when(restTemplateUtil.get(anyString(), any(ParameterizedTypeReference.class)))
                 .thenThrow(notFoundException);
         when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
-        when(httpServletRequest.getHeader("X-Cache-Bypass")).thenReturn(null);
+        when(httpServletRequest.getHeader("Cache-Control")).thenReturn(null);
 
         // When & Then
         EmployeeNotFoundException exception =
@@ -283,22 +442,19 @@ class EmployeeServiceTest {
     @DisplayName("Should successfully get highest salary")
     void testGetHighestSalary_Success() {
         // Given
-        ServerEmployeeDto serverEmployee1 = createServerEmployee(testEmployeeId, "John Doe", 50000);
-        ServerEmployeeDto serverEmployee2 = createServerEmployee(UUID.randomUUID(), "Jane Smith", 75000);
-        List<ServerEmployeeDto> serverEmployees = Arrays.asList(serverEmployee1, serverEmployee2);
+        ServerEmployeeAggregatesDto aggregates = new ServerEmployeeAggregatesDto();
+        aggregates.setCount(2);
+        aggregates.setMaxSalary(75000);
 
-        EmployeeDto employeeDto1 = createEmployeeDto(testEmployeeId, "John Doe", 50000);
-        EmployeeDto employeeDto2 = createEmployeeDto(UUID.randomUUID(), "Jane Smith", 75000);
+        ApiResponse<ServerEmployeeAggregatesDto> apiResponse = new ApiResponse<>();
+        apiResponse.setData(aggregates);
 
-        ApiResponse<List<ServerEmployeeDto>> apiResponse = new ApiResponse<>();
-        apiResponse.setData(serverEmployees);
-
-        when(restTemplateUtil.get(anyString(), any(ParameterizedTypeReference.class)))
+        when(restTemplateUtil.get(
+                        eq(mockApiBaseUrl + "/api/v1/employee/aggregates?top=10"),
+                        any(ParameterizedTypeReference.class)))
                 .thenReturn(new ResponseEntity<>(apiResponse, HttpStatus.OK));
-        when(modelMapper.map(serverEmployee1, EmployeeDto.class)).thenReturn(employeeDto1);
-        when(modelMapper.map(serverEmployee2, EmployeeDto.class)).thenReturn(employeeDto2);
         when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
-        when(httpServletRequest.getHeader("X-Cache-Bypass")).thenReturn(null);
+        when(httpServletRequest.getHeader("Cache-Control")).thenReturn(null);
 
         // When
         Integer result = employeeService.getHighestSalary();
@@ -306,23 +462,24 @@ class EmployeeServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(75000, result);
+        verify(restTemplateUtil, never())
+                .get(eq(mockApiBaseUrl + "/api/v1/employee"), any(ParameterizedTypeReference.class));
     }
 
     @Test
     @DisplayName("Should return 0 when no employees have salary")
     void testGetHighestSalary_NoSalaries() {
         // Given
-        ServerEmployeeDto serverEmployee = createServerEmployee(testEmployeeId, testEmployeeName, null);
-        EmployeeDto employeeDto = createEmployeeDto(testEmployeeId, testEmployeeName, null);
+        ServerEmployeeAggregatesDto aggregates = new ServerEmployeeAggregatesDto();
+        aggregates.setCount(1);
 
-        ApiResponse<List<ServerEmployeeDto>> apiResponse = new ApiResponse<>();
-        apiResponse.setData(Arrays.asList(serverEmployee));
+        ApiResponse<ServerEmployeeAggregatesDto> apiResponse = new ApiResponse<>();
+        apiResponse.setData(aggregates);
 
         when(restTemplateUtil.get(anyString(), any(ParameterizedTypeReference.class)))
                 .thenReturn(new ResponseEntity<>(apiResponse, HttpStatus.OK));
-        when(modelMapper.map(serverEmployee, EmployeeDto.class)).thenReturn(employeeDto);
         when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
-        when(httpServletRequest.getHeader("X-Cache-Bypass")).thenReturn(null);
+        when(httpServletRequest.getHeader("Cache-Control")).thenReturn(null);
 
         // When
         Integer result = employeeService.getHighestSalary();
@@ -336,25 +493,21 @@ class EmployeeServiceTest {
     @DisplayName("Should successfully get top 10 highest earning employee names")
     void testGetTop10HighestEarningEmployeeNames_Success() {
         // Given
-        ServerEmployeeDto serverEmployee1 = createServerEmployee(testEmployeeId, "John Doe", 50000);
-        ServerEmployeeDto serverEmployee2 = createServerEmployee(UUID.randomUUID(), "Jane Smith", 75000);
-        ServerEmployeeDto serverEmployee3 = createServerEmployee(UUID.randomUUID(), "Bob Johnson", 60000);
-        List<ServerEmployeeDto> serverEmployees = Arrays.asList(serverEmployee1, serverEmployee2, serverEmployee3);
-
-        EmployeeDto employeeDto1 = createEmployeeDto(testEmployeeId, "John Doe", 50000);
-        EmployeeDto employeeDto2 = createEmployeeDto(UUID.randomUUID(), "Jane Smith", 75000);
-        EmployeeDto employeeDto3 = createEmployeeDto(UUID.randomUUID(), "Bob Johnson", 60000);
-
-        ApiResponse<List<ServerEmployeeDto>> apiResponse = new ApiResponse<>();
-        apiResponse.setData(serverEmployees);
-
-        when(restTemplateUtil.get(anyString(), any(ParameterizedTypeReference.class)))
+        ServerEmployeeAggregatesDto aggregates = new ServerEmployeeAggregatesDto();
+        aggregates.setTopEarners(Arrays.asList(
+                createServerEmployee(UUID.randomUUID(), "Jane Smith", 75000),
+                createServerEmployee(UUID.randomUUID(), "Bob Johnson", 60000),
+                createServerEmployee(testEmployeeId, "John Doe", 50000)));
+
+        ApiResponse<ServerEmployeeAggregatesDto> apiResponse = new ApiResponse<>();
+        apiResponse.setData(aggregates);
+
+        when(restTemplateUtil.get(
+                        eq(mockApiBaseUrl + "/api/v1/employee/aggregates?top=10"),
+                        any(ParameterizedTypeReference.class)))
                 .thenReturn(new ResponseEntity<>(apiResponse, HttpStatus.OK));
-        when(modelMapper.map(serverEmployee1, EmployeeDto.class)).thenReturn(employeeDto1);
-        when(modelMapper.map(serverEmployee2, EmployeeDto.class)).thenReturn(employeeDto2);
-        when(modelMapper.map(serverEmployee3, EmployeeDto.class)).thenReturn(employeeDto3);
         when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
-        when(httpServletRequest.getHeader("X-Cache-Bypass")).thenReturn(null);
+        when(httpServletRequest.getHeader("Cache-Control")).thenReturn(null);
 
         // When
         List<String> result = employeeService.getTop10HighestEarningEmployeeNames();
@@ -367,6 +520,70 @@ class EmployeeServiceTest {
         assertEquals("John Doe", result.get(2)); // Lowest salary
     }
 
+    @Test
+    @DisplayName("Should answer both aggregate endpoints from one upstream fetch")
+    void testAggregates_SharedByHighestSalaryAndTopEarners() {
+        // Given
+        ServerEmployeeAggregatesDto aggregates = new ServerEmployeeAggregatesDto();
+        aggregates.setVersion(7);
+        aggregates.setCount(2);
+        aggregates.setMaxSalary(75000);
+        aggregates.setTopEarners(Arrays.asList(
+                createServerEmployee(UUID.randomUUID(), "Jane Smith", 75000),
+                createServerEmployee(testEmployeeId, "John Doe", 50000)));
+
+        ApiResponse<ServerEmployeeAggregatesDto> apiResponse = new ApiResponse<>();
+        apiResponse.setData(aggregates);
+
+        when(restTemplateUtil.get(
+                        eq(mockApiBaseUrl + "/api/v1/employee/aggregates?top=10"),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(new ResponseEntity<>(apiResponse, HttpStatus.OK));
+        when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
+        when(httpServletRequest.getHeader("Cache-Control")).thenReturn(null);
+
+        // When
+        Integer highestSalary = employeeService.getHighestSalary();
+        List<String> topEarners = employeeService.getTop10HighestEarningEmployeeNames();
+
+        // Then
+        assertEquals(75000, highestSalary);
+        assertEquals(List.of("Jane Smith", "John Doe"), topEarners);
+        verify(restTemplateUtil, times(1)).get(anyString(), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    @DisplayName("Should fetch employee statistics once and serve them from cache")
+    void testGetEmployeeStats_Cached() {
+        // Given
+        EmployeeStatsDto.Summary salary = new EmployeeStatsDto.Summary(
+                2,
+                62500.0,
+                50000.0,
+                75000.0,
+                Map.of("p50", 50000.0),
+                List.of(new EmployeeStatsDto.Bucket(50000, 75000, 1), new EmployeeStatsDto.Bucket(75000, 100000, 1)));
+        EmployeeStatsDto stats =
+                new EmployeeStatsDto(3, 0.01, new EmployeeStatsDto.Distribution(2, salary, null), Map.of());
+
+        ApiResponse<EmployeeStatsDto> apiResponse = new ApiResponse<>();
+        apiResponse.setData(stats);
+
+        when(restTemplateUtil.get(eq(mockApiBaseUrl + "/api/v1/employee/stats"), any(ParameterizedTypeReference.class)))
+                .thenReturn(new ResponseEntity<>(apiResponse, HttpStatus.OK));
+        when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
+        when(httpServletRequest.getHeader("Cache-Control")).thenReturn(null);
+
+        // When
+        EmployeeStatsDto result = employeeService.getEmployeeStats();
+        EmployeeStatsDto cached = employeeService.getEmployeeStats();
+
+        // Then
+        assertEquals(stats, result);
+        assertSame(result, cached);
+        verify(restTemplateUtil, times(1)).get(anyString(), any(ParameterizedTypeReference.class));
+    }
+
     @Test
     @DisplayName("Should successfully create employee")
     void testCreateEmployee_Success() {
@@ -399,25 +616,18 @@ class EmployeeServiceTest {
     }
 
     @Test
-    @DisplayName("Should successfully delete employee by ID")
+    @DisplayName("Should successfully delete employee by ID with a single upstream call")
     void testDeleteEmployeeById_Success() {
         // Given
         ServerEmployeeDto serverEmployee = createServerEmployee(testEmployeeId, testEmployeeName, 50000);
-        EmployeeDto employeeDto = createEmployeeDto(testEmployeeId, testEmployeeName, 50000);
 
-        ApiResponse<ServerEmployeeDto> getResponse = new ApiResponse<>();
-        getResponse.setData(serverEmployee);
+        ApiResponse<ServerEmployeeDto> deleteResponse = new ApiResponse<>();
+        deleteResponse.setData(serverEmployee);
 
-        ApiResponse<Boolean> deleteResponse = new ApiResponse<>();
-        deleteResponse.setData(true);
-
-        when(restTemplateUtil.get(anyString(), any(ParameterizedTypeReference.class)))
-                .thenReturn(new ResponseEntity<>(getResponse, HttpStatus.OK));
-        when(modelMapper.map(serverEmployee, EmployeeDto.class)).thenReturn(employeeDto);
-        when(restTemplateUtil.delete(anyString(), any(ParameterizedTypeReference.class)))
+        when(restTemplateUtil.delete(
+                        eq(mockApiBaseUrl + "/api/v1/employee/" + testEmployeeId),
+                        any(ParameterizedTypeReference.class)))
                 .thenReturn(new ResponseEntity<>(deleteResponse, HttpStatus.OK));
-        when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
-        when(httpServletRequest.getHeader("X-Cache-Bypass")).thenReturn(null);
 
         // When
         String result = employeeService.deleteEmployeeById(testEmployeeId);
@@ -425,6 +635,7 @@ class EmployeeServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(testEmployeeName, result);
+        verify(restTemplateUtil, never()).get(anyString(), any(ParameterizedTypeReference.class));
     }
 
     @Test
@@ -433,71 +644,15 @@ class EmployeeServiceTest {
         // Given
         HttpClientErrorException notFoundException =
                 HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Employee not found", null, null, null);
-        when(restTemplateUtil.get(anyString(), any(ParameterizedTypeReference.class)))
+        when(restTemplateUtil.delete(anyString(), any(ParameterizedTypeReference.class)))
                 .thenThrow(notFoundException);
-        when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
-        when(httpServletRequest.getHeader("X-Cache-Bypass")).thenReturn(null);
 
         // When & Then
         EmployeeNotFoundException exception =
                 assertThrows(EmployeeNotFoundException.class, () -> employeeService.deleteEmployeeById(testEmployeeId));
 
         assertEquals("Employee not found", exception.getMessage());
-    }
-
-    @Test
-    @DisplayName("Should return false when cache bypass header is not present")
-    void testShouldBypassCache_NoHeader() {
-        // Given
-        when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
-        when(httpServletRequest.getHeader("X-Cache-Bypass")).thenReturn(null);
-
-        // When
-        boolean result = employeeService.shouldBypassCache();
-
-        // Then
-        assertFalse(result);
-    }
-
-    @Test
-    @DisplayName("Should return true when cache bypass header is 'true'")
-    void testShouldBypassCache_HeaderTrue() {
-        // Given
-        when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
-        when(httpServletRequest.getHeader("X-Cache-Bypass")).thenReturn("true");
-
-        // When
-        boolean result = employeeService.shouldBypassCache();
-
-        // Then
-        assertTrue(result);
-    }
-
-    @Test
-    @DisplayName("Should return false when cache bypass header is 'false'")
-    void testShouldBypassCache_HeaderFalse() {
-        // Given
-        when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
-        when(httpServletRequest.getHeader("X-Cache-Bypass")).thenReturn("false");
-
-        // When
-        boolean result = employeeService.shouldBypassCache();
-
-        // Then
-        assertFalse(result);
-    }
-
-    @Test
-    @DisplayName("Should handle exception when request context is not available")
-    void testShouldBypassCache_NoRequestContext() {
-        // Given
-        RequestContextHolder.resetRequestAttributes();
-
-        // When
-        boolean result = employeeService.shouldBypassCache();
-
-        // Then
-        assertFalse(result);
+        verify(restTemplateUtil, never()).get(anyString(), any(ParameterizedTypeReference.class));
     }
 
     // Helper methods
@@ -0,0 +1,216 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.NotCachedException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Unit tests for ReadCache
+ *
+ * @author Naveen Kumar
+ */
+@DisplayName("ReadCache Unit Tests")
+class ReadCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final ReadCache readCache = new ReadCache(new ConcurrentMapCacheManager(), clock);
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        fetches.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should serve a cached entry within max-age and send its Age")
+    void testMaxAge_ServesCachedWithAge() {
+        // Given
+        get(null);
+        clock.advance(Duration.ofSeconds(20));
+
+        // When
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String result = get("max-age=30", response);
+
+        // Then
+        assertEquals("value-1", result);
+        assertEquals("20", response.getHeader("Age"));
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    @DisplayName("Should fetch again when the cached entry is older than max-age")
+    void testMaxAge_RefetchesStaleEntry() {
+        // Given
+        get(null);
+        clock.advance(Duration.ofSeconds(20));
+
+        // When
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String result = get("max-age=10", response);
+
+        // Then
+        assertEquals("value-2", result);
+        assertEquals("0", response.getHeader("Age"));
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    @DisplayName("Should never fetch for only-if-cached")
+    void testOnlyIfCached() {
+        // When & Then
+        assertThrows(NotCachedException.class, () -> get("only-if-cached"));
+        assertEquals(0, fetches.get());
+
+        get(null);
+        assertEquals("value-1", get("only-if-cached"));
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    @DisplayName("Should not store a response fetched for no-store")
+    void testNoStore() {
+        // When
+        get("no-store");
+        get(null);
+
+        // Then
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    @DisplayName("Should derive a missing entry from a broader cached one and keep its age")
+    void testBroaderKey_RefinesWithItsAge() {
+        // Given
+        get(null);
+        clock.advance(Duration.ofSeconds(7));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest(), response));
+
+        // When
+        String result = readCache.get(
+                "employees",
+                "narrower",
+                List.of("missing", "key"),
+                value -> value + "-refined",
+                () -> "fetched-" + fetches.incrementAndGet(),
+                value -> true);
+        clock.advance(Duration.ofSeconds(1));
+        String cached = readCache.get("employees", "narrower", () -> "fetched", value -> true);
+
+        // Then
+        assertEquals("value-1-refined", result);
+        assertEquals("value-1-refined", cached);
+        assertEquals("8", response.getHeader("Age"));
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    @DisplayName("Should share one upstream fetch between concurrent misses for the same key")
+    void testConcurrentMisses_ShareOneFetch() throws Exception {
+        // Given
+        int callers = 8;
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // When
+        try {
+            Future<?>[] results = new Future<?>[callers];
+            for (int i = 0; i < callers; i++) {
+                results[i] = executor.submit(() -> readCache.get(
+                        "employees",
+                        "key",
+                        () -> {
+                            started.countDown();
+                            await(release);
+                            return "value-" + fetches.incrementAndGet();
+                        },
+                        value -> true));
+            }
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100);
+            release.countDown();
+
+            // Then
+            for (Future<?> result : results) {
+                assertEquals("value-1", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, fetches.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String get(String cacheControl) {
+        return get(cacheControl, new MockHttpServletResponse());
+    }
+
+    private String get(String cacheControl, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (cacheControl != null) {
+            request.addHeader("Cache-Control", cacheControl);
+        }
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return readCache.get("employees", "key", () -> "value-" + fetches.incrementAndGet(), value -> true);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
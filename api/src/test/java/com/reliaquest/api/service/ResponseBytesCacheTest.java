@@ -0,0 +1,97 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Unit tests for ResponseBytesCache
+ *
+ * @author Naveen Kumar
+ */
+@DisplayName("ResponseBytesCache Unit Tests")
+class ResponseBytesCacheTest {
+
+    private final ReadCache readCache = ReadCache.inMemory();
+    private final ResponseBytesCache responseBytesCache = new ResponseBytesCache(true, 1 << 20, 16);
+    private final AtomicInteger encodings = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        encodings.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should encode a cached entry once and write its bytes, plain or gzipped, on later requests")
+    void testCachedEntry_EncodedOnce() throws IOException {
+        // When
+        ResponseEntity<byte[]> first = respond("max-age=60", null);
+        ResponseEntity<byte[]> plain = respond("max-age=60", "br");
+        ResponseEntity<byte[]> gzip = respond("max-age=60", "gzip, deflate");
+
+        // Then
+        assertEquals(1, encodings.get());
+        assertSame(first.getBody(), plain.getBody());
+        assertNull(plain.getHeaders().getFirst("Content-Encoding"));
+        assertEquals("gzip", gzip.getHeaders().getFirst("Content-Encoding"));
+        assertEquals(body(1), gunzip(gzip.getBody()));
+    }
+
+    @Test
+    @DisplayName("Should encode again when the entry is replaced or the response was not cached")
+    void testNewOrUncachedEntry_EncodedAgain() {
+        // When
+        respond(null, null);
+        ResponseEntity<byte[]> refetched = respond("no-cache", null);
+        ResponseEntity<byte[]> unstored = respond("no-cache, no-store", null);
+        respond("no-cache, no-store", null);
+
+        // Then
+        assertEquals(body(2), new String(refetched.getBody(), StandardCharsets.UTF_8));
+        assertEquals(body(3), new String(unstored.getBody(), StandardCharsets.UTF_8));
+        assertEquals(4, encodings.get());
+    }
+
+    private ResponseEntity<byte[]> respond(String cacheControl, String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (cacheControl != null) {
+            request.addHeader("Cache-Control", cacheControl);
+        }
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(request, new MockHttpServletResponse()));
+        readCache.get("employees", "key", () -> "employees", value -> true);
+        return responseBytesCache.respond(
+                "employees",
+                "id,name",
+                acceptEncoding,
+                () -> body(encodings.incrementAndGet()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String body(int encoding) {
+        return "[{\"id\":\"" + encoding + "\",\"name\":\"a name long enough to gzip\"}]";
+    }
+
+    private static String gunzip(byte[] gzip) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
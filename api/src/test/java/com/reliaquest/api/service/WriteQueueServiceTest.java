@@ -0,0 +1,285 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.dto.WriteOperation;
+import com.reliaquest.api.exception.RateLimitExceededException;
+import com.reliaquest.api.exception.WriteQueueFullException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for WriteQueueService
+ *
+ * @author Naveen Kumar
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WriteQueueService Unit Tests")
+class WriteQueueServiceTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private WriteQueueService writeQueueService;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (writeQueueService != null) {
+            writeQueueService.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Should persist an accepted create and drain it to the upstream")
+    void testSubmit_PersistsAndDrains() throws Exception {
+        // Given
+        EmployeeDto input = employee(null);
+        EmployeeDto created = employee(UUID.randomUUID());
+        when(employeeService.createEmployee(any(EmployeeDto.class))).thenReturn(created);
+        writeQueueService = start(3);
+
+        // When
+        WriteOperation accepted = writeQueueService.submit(input);
+
+        // Then
+        assertEquals(WriteOperation.Status.PENDING, accepted.getStatus());
+        assertTrue(Files.exists(directory.resolve(accepted.getId() + ".json")));
+        WriteOperation completed = awaitCompletion(accepted.getId());
+        assertEquals(WriteOperation.Status.SUCCEEDED, completed.getStatus());
+        assertEquals(created.getId(), completed.getResult().getId());
+        assertEquals(1, completed.getAttempts());
+        WriteOperation persisted =
+                objectMapper.readValue(directory.resolve(accepted.getId() + ".json").toFile(), WriteOperation.class);
+        assertEquals(WriteOperation.Status.SUCCEEDED, persisted.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should back off and retry the same operation while the upstream rate limits")
+    void testRateLimited_RetriesUntilAccepted() throws Exception {
+        // Given
+        EmployeeDto created = employee(UUID.randomUUID());
+        when(employeeService.createEmployee(any(EmployeeDto.class)))
+                .thenThrow(new RateLimitExceededException("Server is currently rate limiting requests."))
+                .thenThrow(new RateLimitExceededException("Server is currently rate limiting requests."))
+                .thenReturn(created);
+        writeQueueService = start(5);
+
+        // When
+        WriteOperation accepted = writeQueueService.submit(employee(null));
+
+        // Then
+        WriteOperation completed = awaitCompletion(accepted.getId());
+        assertEquals(WriteOperation.Status.SUCCEEDED, completed.getStatus());
+        assertEquals(3, completed.getAttempts());
+        verify(employeeService, times(3)).createEmployee(any(EmployeeDto.class));
+    }
+
+    @Test
+    @DisplayName("Should fail an operation without retrying when the upstream rejects it outright")
+    void testPermanentFailure_NotRetried() throws Exception {
+        // Given
+        when(employeeService.createEmployee(any(EmployeeDto.class)))
+                .thenThrow(new RuntimeException("Failed to create employee in mock API Server"));
+        writeQueueService = start(5);
+
+        // When
+        WriteOperation accepted = writeQueueService.submit(employee(null));
+
+        // Then
+        WriteOperation completed = awaitCompletion(accepted.getId());
+        assertEquals(WriteOperation.Status.FAILED, completed.getStatus());
+        assertEquals("Failed to create employee in mock API Server", completed.getError());
+        verify(employeeService, times(1)).createEmployee(any(EmployeeDto.class));
+    }
+
+    @Test
+    @DisplayName("Should resume operations left pending by a previous run")
+    void testRestart_ResumesPending() throws Exception {
+        // Given
+        WriteOperation left = new WriteOperation(UUID.randomUUID(), employee(null), Clock.systemUTC().instant());
+        Files.write(directory.resolve(left.getId() + ".json"), objectMapper.writeValueAsBytes(left));
+        Files.write(directory.resolve(UUID.randomUUID() + ".json.tmp"), new byte[] {'{'});
+        when(employeeService.createEmployee(any(EmployeeDto.class))).thenReturn(employee(UUID.randomUUID()));
+
+        // When
+        writeQueueService = start(3);
+
+        // Then
+        assertEquals(WriteOperation.Status.SUCCEEDED, awaitCompletion(left.getId()).getStatus());
+        try (var files = Files.list(directory)) {
+            assertTrue(files.noneMatch(file -> file.toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject new creates once the queue is full")
+    void testQueueFull_Rejects() throws Exception {
+        // Given
+        writeQueueService = new WriteQueueService(
+                employeeService,
+                objectMapper,
+                true,
+                directory,
+                1,
+                Duration.ofMillis(10),
+                Duration.ofMillis(10),
+                3,
+                Duration.ofHours(1),
+                Clock.systemUTC());
+
+        // When
+        writeQueueService.submit(employee(null));
+
+        // Then
+        assertThrows(WriteQueueFullException.class, () -> writeQueueService.submit(employee(null)));
+    }
+
+    @Test
+    @DisplayName("Should admit exactly max-pending creates under concurrent submits and delete the refused ones")
+    void testQueueFull_ConcurrentSubmits() throws Exception {
+        // Given
+        writeQueueService = create(10, 3);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // When
+        try {
+            List<Future<?>> submits = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                submits.add(executor.submit(() -> {
+                    try {
+                        writeQueueService.submit(employee(null));
+                        accepted.incrementAndGet();
+                    } catch (WriteQueueFullException e) {
+                        rejected.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> submit : submits) {
+                submit.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertEquals(10, accepted.get());
+        assertEquals(90, rejected.get());
+        assertEquals(10, writeQueueService.pendingCount());
+        try (var files = Files.list(directory)) {
+            assertEquals(10, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep a successful create when its outcome cannot be written to disk")
+    void testPersistFailure_AfterCreateNotRetried() throws Exception {
+        // Given
+        EmployeeDto created = employee(UUID.randomUUID());
+        when(employeeService.createEmployee(any(EmployeeDto.class))).thenAnswer(invocation -> {
+            // A non-empty directory in place of the entry makes the rename that persists the outcome fail
+            try (var files = Files.list(directory)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                    Files.createDirectories(file.resolve("blocked"));
+                }
+            }
+            return created;
+        });
+        writeQueueService = start(3);
+
+        // When
+        WriteOperation accepted = writeQueueService.submit(employee(null));
+
+        // Then
+        WriteOperation completed = awaitCompletion(accepted.getId());
+        assertEquals(WriteOperation.Status.SUCCEEDED, completed.getStatus());
+        assertEquals(created.getId(), completed.getResult().getId());
+        Thread.sleep(100);
+        verify(employeeService, times(1)).createEmployee(any(EmployeeDto.class));
+    }
+
+    @Test
+    @DisplayName("Should resume every pending operation even when more are left than max-pending")
+    void testRestart_ResumesBeyondMaxPending() throws Exception {
+        // Given
+        List<WriteOperation> left = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            WriteOperation operation =
+                    new WriteOperation(UUID.randomUUID(), employee(null), Clock.systemUTC().instant());
+            Files.write(directory.resolve(operation.getId() + ".json"), objectMapper.writeValueAsBytes(operation));
+            left.add(operation);
+        }
+        when(employeeService.createEmployee(any(EmployeeDto.class))).thenReturn(employee(UUID.randomUUID()));
+
+        // When
+        writeQueueService = create(1, 3);
+        writeQueueService.afterPropertiesSet();
+
+        // Then
+        for (WriteOperation operation : left) {
+            assertEquals(WriteOperation.Status.SUCCEEDED, awaitCompletion(operation.getId()).getStatus());
+        }
+    }
+
+    private WriteQueueService start(int maxAttempts) throws Exception {
+        WriteQueueService service = create(100, maxAttempts);
+        service.afterPropertiesSet();
+        return service;
+    }
+
+    private WriteQueueService create(int maxPending, int maxAttempts) {
+        return new WriteQueueService(
+                employeeService,
+                objectMapper,
+                true,
+                directory,
+                maxPending,
+                Duration.ofMillis(10),
+                Duration.ofMillis(50),
+                maxAttempts,
+                Duration.ofHours(1),
+                Clock.systemUTC());
+    }
+
+    private WriteOperation awaitCompletion(UUID id) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            WriteOperation operation = writeQueueService.getOperation(id).orElseThrow();
+            if (operation.getStatus() != WriteOperation.Status.PENDING) {
+                return operation;
+            }
+            Thread.sleep(10);
+        }
+        return fail("Operation " + id + " did not complete");
+    }
+
+    private static EmployeeDto employee(UUID id) {
+        return new EmployeeDto(id, "Queued Employee", 50000, 30, "Developer", "queued@example.com");
+    }
+}
@@ -0,0 +1,135 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for Bulkhead
+ *
+ * @author Naveen Kumar
+ */
+@DisplayName("Bulkhead Unit Tests")
+class BulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should run the call on the caller thread and free its slot afterwards")
+    void testExecute_RunsInlineAndReleases() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead("read", 1, 0, Duration.ZERO, meterRegistry);
+        Thread caller = Thread.currentThread();
+
+        // When
+        Thread first = bulkhead.execute(Thread::currentThread);
+        Thread second = bulkhead.execute(Thread::currentThread);
+
+        // Then
+        assertSame(caller, first);
+        assertSame(caller, second);
+        assertEquals(0, bulkhead.active());
+        assertEquals(
+                2.0,
+                meterRegistry
+                        .get("upstream.bulkhead.admitted")
+                        .tag("bulkhead", "read")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    @DisplayName("Should reject at once when every slot is taken and the queue is full")
+    void testQueueFull_RejectsImmediately() throws Exception {
+        // Given
+        Bulkhead bulkhead = new Bulkhead("write", 1, 0, Duration.ofSeconds(10), meterRegistry);
+        occupy(bulkhead);
+
+        // When
+        long started = System.nanoTime();
+        BulkheadFullException exception =
+                assertThrows(BulkheadFullException.class, () -> bulkhead.execute(() -> "rejected"));
+
+        // Then
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) < 1000);
+        assertTrue(exception.getMessage().contains("write bulkhead is full"));
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("upstream.bulkhead.rejected")
+                        .tags("bulkhead", "write", "reason", "queue-full")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    @DisplayName("Should reject a queued call once max-wait passes without a free slot")
+    void testQueued_TimesOut() throws Exception {
+        // Given
+        Bulkhead bulkhead = new Bulkhead("read", 1, 1, Duration.ofMillis(50), meterRegistry);
+        occupy(bulkhead);
+
+        // When & Then
+        assertThrows(BulkheadFullException.class, () -> bulkhead.execute(() -> "timed out"));
+        assertEquals(0, bulkhead.waiting());
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("upstream.bulkhead.rejected")
+                        .tags("bulkhead", "read", "reason", "timeout")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    @DisplayName("Should leave the read bulkhead untouched while the write bulkhead is saturated")
+    void testSaturatedWrites_DoNotBlockReads() throws Exception {
+        // Given
+        Bulkhead reads = new Bulkhead("read", 1, 0, Duration.ZERO, meterRegistry);
+        Bulkhead writes = new Bulkhead("write", 1, 0, Duration.ZERO, meterRegistry);
+        occupy(writes);
+
+        // When
+        String result = reads.execute(() -> "read");
+
+        // Then
+        assertEquals("read", result);
+        assertThrows(BulkheadFullException.class, () -> writes.execute(() -> "write"));
+    }
+
+    /**
+     * Takes every slot of {@code bulkhead} with calls that block until the test ends
+     */
+    private void occupy(Bulkhead bulkhead) throws Exception {
+        CountDownLatch running = new CountDownLatch(bulkhead.getMaxConcurrent());
+        for (int i = 0; i < bulkhead.getMaxConcurrent(); i++) {
+            callers.submit(() -> bulkhead.execute(() -> {
+                running.countDown();
+                try {
+                    return release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }));
+        }
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+    }
+}
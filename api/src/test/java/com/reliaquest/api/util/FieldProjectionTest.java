@@ -0,0 +1,51 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.EmployeeDto;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for FieldProjection
+ *
+ * @author Naveen Kumar
+ */
+@DisplayName("FieldProjection Unit Tests")
+class FieldProjectionTest {
+
+    private final FieldProjection fieldProjection = new FieldProjection(new ObjectMapper());
+
+    @Test
+    @DisplayName("Should write only the requested properties and reuse the projection of a field set")
+    void testParse_WritesRequestedProperties() {
+        // Given
+        UUID id = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        EmployeeDto employee = new EmployeeDto(id, "John Doe", 50000, 30, "Developer", "john@company.com");
+
+        // When
+        FieldProjection.Projection projection = fieldProjection.parse("name,id").orElseThrow();
+        String single = new String(projection.write(employee), StandardCharsets.UTF_8);
+        String list = new String(projection.write(List.of(employee)), StandardCharsets.UTF_8);
+
+        // Then
+        assertEquals("{\"id\":\"123e4567-e89b-12d3-a456-426614174000\",\"name\":\"John Doe\"}", single);
+        assertEquals("[" + single + "]", list);
+        assertSame(projection, fieldProjection.parse(" id , name ").orElseThrow());
+        assertEquals(List.of("id", "name"), projection.getFields());
+    }
+
+    @Test
+    @DisplayName("Should not project without fields or with every field, and reject unknown ones")
+    void testParse_NoProjectionOrUnknown() {
+        // When & Then
+        assertTrue(fieldProjection.parse(null).isEmpty());
+        assertTrue(fieldProjection.parse(" ").isEmpty());
+        assertTrue(fieldProjection.parse("id,name,salary,age,title,email").isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> fieldProjection.parse("id,salaryBand"));
+    }
+}
@@ -0,0 +1,144 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Unit tests for HedgedRequestExecutor
+ *
+ * @author Naveen Kumar
+ */
+@DisplayName("HedgedRequestExecutor Unit Tests")
+class HedgedRequestExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HedgedRequestExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Should call straight through on the caller thread when hedging is disabled")
+    void testDisabled_CallsInline() {
+        // Given
+        executor = HedgedRequestExecutor.disabled();
+        Thread caller = Thread.currentThread();
+
+        // When
+        Thread result = executor.execute("getAllEmployees", Thread::currentThread);
+
+        // Then
+        assertSame(caller, result);
+    }
+
+    @Test
+    @DisplayName("Should send a hedge after the delay and return whichever attempt answers first")
+    void testSlowPrimary_HedgeWins() {
+        // Given
+        executor = new HedgedRequestExecutor(true, 0.95, 20, 1, 1.0, meterRegistry);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        long started = System.nanoTime();
+        String result = executor.execute("getEmployeeById", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(5000);
+                return "primary";
+            }
+            return "hedge";
+        });
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        // Then
+        assertEquals("hedge", result);
+        assertTrue(elapsedMillis < 2000, "Hedge should answer long before the slow primary");
+        assertEquals(1.0, count("upstream.hedging.hedges.sent", "getEmployeeById"));
+        assertEquals(1.0, count("upstream.hedging.hedges.won", "getEmployeeById"));
+    }
+
+    @Test
+    @DisplayName("Should keep sampling the attempts that lose so the hedge delay does not drift down")
+    void testCancelledAttempts_StillSampled() {
+        // Given
+        executor = new HedgedRequestExecutor(true, 0.95, 20, 1, 1.0, meterRegistry);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            AtomicInteger attempts = new AtomicInteger();
+            executor.execute("getEmployeeById", () -> {
+                if (attempts.incrementAndGet() == 1) {
+                    sleep(5000);
+                    return "primary";
+                }
+                return "hedge";
+            });
+        }
+
+        // Then
+        double delayMillis = meterRegistry
+                .get("upstream.hedging.delay")
+                .tag("operation", "getEmployeeById")
+                .gauge()
+                .value();
+        assertTrue(delayMillis >= 20, "Cancelled primaries ran for at least the delay and must hold it up");
+    }
+
+    @Test
+    @DisplayName("Should not hedge when the hedge budget is exhausted")
+    void testNoBudget_WaitsForPrimary() {
+        // Given
+        executor = new HedgedRequestExecutor(true, 0.95, 10, 1, 0.0, meterRegistry);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = executor.execute("getAllEmployees", () -> {
+            attempts.incrementAndGet();
+            sleep(100);
+            return "primary";
+        });
+
+        // Then
+        assertEquals("primary", result);
+        assertEquals(1, attempts.get());
+        assertEquals(0.0, count("upstream.hedging.hedges.sent", "getAllEmployees"));
+        assertEquals(1.0, count("upstream.hedging.hedges.denied", "getAllEmployees"));
+    }
+
+    @Test
+    @DisplayName("Should rethrow the upstream exception unchanged")
+    void testUpstreamError_Rethrown() {
+        // Given
+        executor = new HedgedRequestExecutor(true, 0.95, 1000, 1, 1.0, meterRegistry);
+        HttpClientErrorException tooManyRequests = new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS);
+
+        // When & Then
+        HttpClientErrorException thrown = assertThrows(
+                HttpClientErrorException.class, () -> executor.execute("getAllEmployees", () -> {
+                    throw tooManyRequests;
+                }));
+        assertSame(tooManyRequests, thrown);
+    }
+
+    private double count(String name, String operation) {
+        return meterRegistry.get(name).tag("operation", operation).counter().count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
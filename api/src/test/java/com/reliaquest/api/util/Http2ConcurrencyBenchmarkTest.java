@@ -0,0 +1,124 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+
+/**
+ * Drives 1,000 concurrent callers through {@link RestTemplateUtil} against a mock server on localhost, once over
+ * pooled HTTP/1.1 and once over multiplexed h2c, and reports throughput, latency percentiles and failures.
+ *
+ * <p>Needs a running mock server (override the address with {@code -Dbenchmark.base-url}) started with
+ * {@code mock.rate-limit.mode=none}, otherwise most calls are throttled. Skipped when the server is unreachable and
+ * excluded from the default test run.
+ *
+ * @author Naveen Kumar
+ */
+@DisplayName("HTTP/2 Concurrency Benchmark")
+class Http2ConcurrencyBenchmarkTest {
+
+    private static final String BASE_URL = System.getProperty("benchmark.base-url", "http://localhost:8112");
+    private static final int CALLERS = 1_000;
+    private static final int CALLS_PER_CALLER = 20;
+
+    @BeforeAll
+    static void requireServer() {
+        URI uri = URI.create(BASE_URL);
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(uri.getHost(), uri.getPort()), 1000);
+        } catch (IOException e) {
+            assumeTrue(false, "Mock server not reachable at " + BASE_URL);
+        }
+    }
+
+    @Test
+    @DisplayName("HTTP/1.1 and h2c should both serve 1k concurrent callers")
+    void compareHttp11AndH2c() throws Exception {
+        // Given
+        RestTemplateUtil http11 =
+                new RestTemplateUtil(false, Bulkhead.of("read", CALLERS), Bulkhead.of("write", CALLERS));
+        RestTemplateUtil http2 =
+                new RestTemplateUtil(true, Bulkhead.of("read", CALLERS), Bulkhead.of("write", CALLERS));
+
+        // When
+        int http11Failures = run("http/1.1", http11);
+        int http2Failures = run("h2c", http2);
+
+        // Then
+        assertEquals(0, http11Failures, "HTTP/1.1 calls failed");
+        assertEquals(0, http2Failures, "h2c calls failed");
+    }
+
+    private static int run(String label, RestTemplateUtil restTemplateUtil) throws Exception {
+        String url = BASE_URL + "/api/v1/employee/aggregates?top=1";
+        ParameterizedTypeReference<Object> type = new ParameterizedTypeReference<>() {};
+        // Warm up connections, the h2c upgrade and the JIT before measuring
+        for (int i = 0; i < 100; i++) {
+            restTemplateUtil.get(url, type);
+        }
+
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<long[]>> results = new ArrayList<>(CALLERS);
+        for (int caller = 0; caller < CALLERS; caller++) {
+            results.add(callers.submit(() -> {
+                long[] latencies = new long[CALLS_PER_CALLER];
+                start.await();
+                for (int call = 0; call < CALLS_PER_CALLER; call++) {
+                    long started = System.nanoTime();
+                    try {
+                        restTemplateUtil.get(url, type);
+                    } catch (RuntimeException e) {
+                        failures.incrementAndGet();
+                    }
+                    latencies[call] = System.nanoTime() - started;
+                }
+                return latencies;
+            }));
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        long[] latencies = new long[CALLERS * CALLS_PER_CALLER];
+        for (int caller = 0; caller < CALLERS; caller++) {
+            System.arraycopy(results.get(caller).get(), 0, latencies, caller * CALLS_PER_CALLER, CALLS_PER_CALLER);
+        }
+        long elapsed = System.nanoTime() - started;
+        callers.shutdown();
+        callers.awaitTermination(10, TimeUnit.SECONDS);
+
+        Arrays.sort(latencies);
+        System.out.printf(
+                "%-8s %,d calls from %,d callers: %,.0f calls/s, p50 %.1f ms, p99 %.1f ms, %d failed%n",
+                label,
+                latencies.length,
+                CALLERS,
+                latencies.length / (elapsed / 1_000_000_000.0),
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.99),
+                failures.get());
+        return failures.get();
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.round(quantile * sorted.length))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Unit tests for RequestCacheControl
+ *
+ * @author Naveen Kumar
+ */
+@DisplayName("RequestCacheControl Unit Tests")
+class RequestCacheControlTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should parse every supported directive, case-insensitively")
+    void testParse_AllDirectives() {
+        // When
+        RequestCacheControl cacheControl = RequestCacheControl.parse("MAX-AGE=30, no-cache, Only-If-Cached, no-store");
+
+        // Then
+        assertEquals(30L, cacheControl.maxAgeSeconds());
+        assertTrue(cacheControl.noCache());
+        assertTrue(cacheControl.onlyIfCached());
+        assertTrue(cacheControl.noStore());
+    }
+
+    @Test
+    @DisplayName("Should ignore unknown directives and malformed max-age values")
+    void testParse_IgnoresUnknownAndMalformed() {
+        // When & Then
+        assertEquals(RequestCacheControl.DEFAULT, RequestCacheControl.parse("max-age=soon, max-stale, private"));
+        assertEquals(RequestCacheControl.DEFAULT, RequestCacheControl.parse("max-age=-1"));
+        assertEquals(RequestCacheControl.DEFAULT, RequestCacheControl.parse(null));
+        assertEquals(5L, RequestCacheControl.parse("max-age=\"5\"").maxAgeSeconds());
+    }
+
+    @Test
+    @DisplayName("Should accept cached responses no older than max-age and none under no-cache")
+    void testAccepts() {
+        // When & Then
+        assertTrue(RequestCacheControl.DEFAULT.accepts(59));
+        assertTrue(RequestCacheControl.parse("max-age=10").accepts(10));
+        assertFalse(RequestCacheControl.parse("max-age=10").accepts(11));
+        assertFalse(RequestCacheControl.parse("max-age=0").accepts(1));
+        assertFalse(RequestCacheControl.parse("no-cache").accepts(0));
+    }
+
+    @Test
+    @DisplayName("Should read the Cache-Control header of the current request")
+    void testCurrent_ReadsRequestHeader() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Cache-Control", "only-if-cached");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // When
+        RequestCacheControl cacheControl = RequestCacheControl.current();
+
+        // Then
+        assertTrue(cacheControl.onlyIfCached());
+        assertFalse(cacheControl.noCache());
+    }
+}
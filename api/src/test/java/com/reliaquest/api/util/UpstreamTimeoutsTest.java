@@ -0,0 +1,139 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Unit tests for UpstreamTimeouts
+ *
+ * @author Naveen Kumar
+ */
+@DisplayName("UpstreamTimeouts Unit Tests")
+class UpstreamTimeoutsTest {
+
+    private final UpstreamTimeouts upstreamTimeouts =
+            new UpstreamTimeouts(0.999, 2.0, 100, 10000, 60, new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should use the ceiling until an operation has enough samples")
+    void testNoSamples_UsesCeiling() {
+        // When
+        Duration timeout = upstreamTimeouts.timeoutFor("getAllEmployees");
+
+        // Then
+        assertEquals(Duration.ofMillis(10000), timeout);
+    }
+
+    @Test
+    @DisplayName("Should adapt to the high percentile of observed latency times the factor")
+    void testObservedLatency_AdaptsTimeout() {
+        // Given
+        for (int i = 0; i < 1000; i++) {
+            upstreamTimeouts.deadline("getEmployeeById").call(() -> null);
+        }
+        UpstreamTimeouts.RollingHistogram histogram = new UpstreamTimeouts.RollingHistogram(Long.MAX_VALUE);
+        for (int i = 0; i < 1000; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i < 999 ? 200 : 900));
+        }
+
+        // When
+        Duration timeout = upstreamTimeouts.timeoutFor("getEmployeeById");
+        long p999 = histogram.percentileNanos(0.999);
+
+        // Then
+        assertEquals(Duration.ofMillis(100), timeout, "Fast calls should be clamped to the floor");
+        assertTrue(p999 >= TimeUnit.MILLISECONDS.toNanos(200) && p999 < TimeUnit.MILLISECONDS.toNanos(230));
+    }
+
+    @Test
+    @DisplayName("Should record calls that time out at their cut-off so the timeout can grow")
+    void testTimedOutCalls_RaiseTimeout() {
+        // Given
+        UpstreamTimeouts timeouts = new UpstreamTimeouts(0.999, 2.0, 10, 10000, 60, new SimpleMeterRegistry());
+        for (int i = 0; i < 1000; i++) {
+            timeouts.deadline("getAllEmployees").call(() -> null);
+        }
+        assertEquals(Duration.ofMillis(10), timeouts.timeoutFor("getAllEmployees"));
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            UpstreamTimeouts.Deadline deadline = timeouts.deadline("getAllEmployees");
+            assertThrows(ResourceAccessException.class, () -> deadline.call(() -> {
+                sleep(deadline.remaining().toMillis() + 1);
+                throw new ResourceAccessException("Read timed out", new SocketTimeoutException());
+            }));
+        }
+
+        // Then
+        assertTrue(timeouts.timeoutFor("getAllEmployees").compareTo(Duration.ofMillis(20)) >= 0);
+    }
+
+    @Test
+    @DisplayName("Should never give an upstream call longer than the caller's remaining budget")
+    void testCallerBudget_CapsDeadline() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(
+                RequestDeadlineFilter.DEADLINE_ATTRIBUTE, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(250));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // When
+        Duration remaining = upstreamTimeouts.deadline("createEmployee").remaining();
+
+        // Then
+        assertTrue(remaining.compareTo(Duration.ofMillis(250)) <= 0);
+    }
+
+    @Test
+    @DisplayName("Should fail fast when the caller's budget is already spent")
+    void testCallerBudgetSpent_FailsFast() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(RequestDeadlineFilter.DEADLINE_ATTRIBUTE, System.nanoTime() - 1);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // When & Then
+        assertThrows(DeadlineExceededException.class, () -> upstreamTimeouts.deadline("deleteEmployeeById"));
+    }
+
+    @Test
+    @DisplayName("Should expose the deadline to the HTTP clients only while the call runs")
+    void testCurrentTimeout_ScopedToCall() {
+        // Given
+        Duration fallback = Duration.ofSeconds(42);
+        UpstreamTimeouts.Deadline deadline = upstreamTimeouts.deadline("getAllEmployees");
+
+        // When
+        Duration during = deadline.call(() -> UpstreamTimeouts.currentTimeout(fallback));
+        Duration after = UpstreamTimeouts.currentTimeout(fallback);
+
+        // Then
+        assertTrue(during.compareTo(Duration.ofMillis(10000)) <= 0);
+        assertEquals(fallback, after);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
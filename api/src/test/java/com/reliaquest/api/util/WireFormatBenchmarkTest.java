@@ -0,0 +1,98 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.ApiResponse;
+import com.reliaquest.api.model.ServerEmployeeDto;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Compares payload size and parse time of the JSON and Smile encodings of a 100k employee roster, using the same
+ * mappers RestTemplate builds for its converters. Excluded from the default test run; run explicitly with
+ * {@code ./gradlew :api:test --tests '*WireFormatBenchmarkTest'} after removing the exclusion.
+ *
+ * @author Naveen Kumar
+ */
+@DisplayName("Wire Format Benchmark")
+class WireFormatBenchmarkTest {
+
+    private static final int EMPLOYEES = 100_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final TypeReference<ApiResponse<List<ServerEmployeeDto>>> ROSTER_TYPE = new TypeReference<>() {};
+
+    @Test
+    @DisplayName("Smile roster should be smaller than JSON and parse back to the same roster")
+    void compareJsonAndSmile() throws IOException {
+        // Given
+        ApiResponse<List<ServerEmployeeDto>> roster = new ApiResponse<>(roster(), "Successfully processed request.");
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper smile = Jackson2ObjectMapperBuilder.smile().build();
+
+        // When
+        Result jsonResult = measure("json", json, roster);
+        Result smileResult = measure("smile", smile, roster);
+
+        // Then
+        assertTrue(smileResult.size() < jsonResult.size(), "Smile payload should be smaller than JSON");
+        assertEquals(EMPLOYEES, smileResult.parsed().getData().size());
+        assertEquals(
+                roster.getData().get(EMPLOYEES - 1).getId(),
+                smileResult.parsed().getData().get(EMPLOYEES - 1).getId());
+    }
+
+    private static Result measure(String format, ObjectMapper mapper, Object roster) throws IOException {
+        byte[] payload = mapper.writeValueAsBytes(roster);
+        ApiResponse<List<ServerEmployeeDto>> parsed = null;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            parsed = mapper.readValue(payload, ROSTER_TYPE);
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long started = System.nanoTime();
+            parsed = mapper.readValue(payload, ROSTER_TYPE);
+            best = Math.min(best, System.nanoTime() - started);
+        }
+        System.out.printf(
+                "%-5s %,d employees: %,d bytes (%,d gzipped), best parse %.1f ms%n",
+                format, EMPLOYEES, payload.length, gzippedSize(payload), best / 1_000_000.0);
+        return new Result(payload.length, parsed);
+    }
+
+    private static int gzippedSize(byte[] payload) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(payload);
+        }
+        return compressed.size();
+    }
+
+    private static List<ServerEmployeeDto> roster() {
+        Random random = new Random(42);
+        String[] titles = {"Engineer", "Designer", "Product Manager", "Analyst", "Director"};
+        List<ServerEmployeeDto> employees = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(new ServerEmployeeDto(
+                    new UUID(random.nextLong(), random.nextLong()),
+                    "Employee " + i,
+                    30_000 + random.nextInt(470_000),
+                    16 + random.nextInt(54),
+                    titles[random.nextInt(titles.length)],
+                    "employee" + i + "@company.com"));
+        }
+        return employees;
+    }
+
+    private record Result(int size, ApiResponse<List<ServerEmployeeDto>> parsed) {}
+}
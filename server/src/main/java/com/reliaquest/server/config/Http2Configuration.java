@@ -0,0 +1,36 @@
+package com.reliaquest.server.config;
+
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * With {@code server.http2.enabled} Tomcat accepts cleartext HTTP/2 (h2c), either by upgrade or with prior knowledge,
+ * next to HTTP/1.1 on the same port.
+ */
+@Configuration
+@ConditionalOnProperty(name = "server.http2.enabled", havingValue = "true")
+public class Http2Configuration {
+
+    /*
+     * Tomcat defaults to 100 open and 20 executing streams per connection, which would queue most of a large fan-out
+     * multiplexed over one connection. Both limits are raised together; the connector's thread pool still bounds how
+     * many streams run at once.
+     */
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> http2StreamLimits(
+            @Value("${mock.http2.max-concurrent-streams:1000}") int maxConcurrentStreams) {
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            for (final var upgradeProtocol : connector.findUpgradeProtocols()) {
+                if (upgradeProtocol instanceof Http2Protocol http2Protocol) {
+                    http2Protocol.setMaxConcurrentStreams(maxConcurrentStreams);
+                    http2Protocol.setMaxConcurrentStreamExecution(maxConcurrentStreams);
+                }
+            }
+        });
+    }
+}
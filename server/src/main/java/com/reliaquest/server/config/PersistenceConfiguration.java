@@ -0,0 +1,22 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.persistence.MockEmployeeJournal;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "mock.persistence.enabled", havingValue = "true")
+public class PersistenceConfiguration {
+
+    @Bean
+    public MockEmployeeJournal mockEmployeeJournal(
+            @Value("${mock.persistence.directory:mock-data}") String directory,
+            @Value("${mock.persistence.group-commit-window:2ms}") Duration groupCommitWindow,
+            @Value("${mock.persistence.snapshot-interval:5m}") Duration snapshotInterval) {
+        return new MockEmployeeJournal(Path.of(directory), groupCommitWindow, snapshotInterval);
+    }
+}
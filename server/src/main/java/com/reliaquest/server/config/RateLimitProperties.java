@@ -0,0 +1,47 @@
+package com.reliaquest.server.config;
+
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Rate limiting applied to the mock API. {@code random} keeps the original unpredictable limiter; {@code token-bucket}
+ * reproduces a fixed upstream limit, with costs keyed by controller method name (for example {@code getEmployees}).
+ */
+@ConfigurationProperties("mock.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("random") Mode mode,
+        @DefaultValue("client") Scope scope,
+        @DefaultValue("20") int capacity,
+        @DefaultValue("10") double refillPerSecond,
+        @DefaultValue("1") int defaultCost,
+        Map<String, Integer> costs,
+        @DefaultValue("10000") int maxBuckets) {
+
+    public RateLimitProperties {
+        if (capacity <= 0 || refillPerSecond <= 0 || maxBuckets <= 0) {
+            throw new IllegalArgumentException(
+                    "mock.rate-limit capacity, refill-per-second and max-buckets must be positive");
+        }
+        costs = costs == null ? Map.of() : Map.copyOf(costs);
+    }
+
+    public int costOf(String operation) {
+        return costs.getOrDefault(operation, defaultCost);
+    }
+
+    public enum Mode {
+        NONE,
+        RANDOM,
+        TOKEN_BUCKET
+    }
+
+    /**
+     * What one bucket is shared by: each client, each route, or each client on each route.
+     */
+    public enum Scope {
+        CLIENT,
+        ROUTE,
+        CLIENT_ROUTE
+    }
+}
@@ -0,0 +1,70 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.web.RequestLimitWebFilter;
+import com.reliaquest.server.web.RequestLimiter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.reactive.config.BlockingExecutionConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * The {@code reactive} profile runs the same controllers, store and indexes on WebFlux and Netty instead of servlets
+ * and Tomcat (see {@code application-reactive.yml}). Only the transport differs; the REST contract does not.
+ *
+ * <p>Tomcat stays on the classpath for the servlet stack, and Boot prefers it over Netty for a reactive server too, so
+ * the Netty server factory is declared here explicitly.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveServerConfiguration implements WebFluxConfigurer {
+
+    private final int writeThreads;
+
+    public ReactiveServerConfiguration(@Value("${mock.reactive.write-threads:8}") int writeThreads) {
+        this.writeThreads = writeThreads;
+    }
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory(
+            ObjectProvider<NettyServerCustomizer> serverCustomizers) {
+        final var factory = new NettyReactiveWebServerFactory();
+        serverCustomizers.orderedStream().forEach(factory::addServerCustomizers);
+        return factory;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor mockWriteExecutor() {
+        final var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(writeThreads);
+        executor.setMaxPoolSize(writeThreads);
+        executor.setThreadNamePrefix("mock-write-");
+        return executor;
+    }
+
+    /*
+     * Reads are answered from in-memory snapshots and indexes and stay on the event loop. Writes may wait on the
+     * journal's group commit, so they run on a small dedicated pool rather than stalling the loop.
+     */
+    @Override
+    public void configureBlockingExecution(BlockingExecutionConfigurer configurer) {
+        configurer
+                .setExecutor(mockWriteExecutor())
+                .setControllerMethodPredicate(method -> method.hasMethodAnnotation(PostMapping.class)
+                        || method.hasMethodAnnotation(DeleteMapping.class));
+    }
+
+    @Bean
+    public RequestLimitWebFilter requestLimitWebFilter(
+            RequestLimiter requestLimiter, RequestMappingHandlerMapping requestMappingHandlerMapping) {
+        return new RequestLimitWebFilter(requestLimiter, requestMappingHandlerMapping);
+    }
+}
@@ -1,59 +1,193 @@
 package com.reliaquest.server.config;
 
-import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
-import java.util.List;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.server.persistence.MockEmployeeDatasetFile;
+import com.reliaquest.server.persistence.MockEmployeeJournal;
+import com.reliaquest.server.service.FuzzyNameIndex;
+import com.reliaquest.server.service.MockEmployeeAggregator;
+import com.reliaquest.server.service.MockEmployeeGenerator;
+import com.reliaquest.server.service.MockEmployeeIndex;
+import com.reliaquest.server.service.MockEmployeeStatistics;
+import com.reliaquest.server.service.MockEmployeeStore;
+import com.reliaquest.server.web.FaultInjectionFilter;
+import com.reliaquest.server.web.FaultInjector;
+import com.reliaquest.server.web.RandomRequestLimiter;
+import com.reliaquest.server.web.RequestLimitInterceptor;
+import com.reliaquest.server.web.RequestLimiter;
+import com.reliaquest.server.web.TokenBucketRequestLimiter;
+import java.nio.file.Path;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.random.RandomGenerator;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private final RateLimitProperties rateLimitProperties;
+
+    @Bean
+    public Faker faker(@Value("${mock.employees.locale:en-US}") String locale) {
+        return new Faker(Locale.forLanguageTag(locale));
+    }
+
+    /*
+     * Without a configured seed a random one is drawn and logged, so any run can be reproduced afterwards.
+     * With persistence enabled, a journaled roster takes precedence over generation.
+     */
+    @Bean
+    public MockEmployeeStore mockEmployeeStore(
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.locale:en-US}") String locale,
+            @Value("${mock.employees.dataset-file:}") String datasetFile,
+            ObjectProvider<MockEmployeeJournal> mockEmployeeJournal) {
+        final var mockEmployeeStore = new MockEmployeeStore();
+        final var journal = mockEmployeeJournal.getIfAvailable();
+        if (journal == null || !journal.recover(mockEmployeeStore)) {
+            seed(mockEmployeeStore, maxEmployees, seed, Locale.forLanguageTag(locale), datasetFile);
+        }
+        if (journal != null) {
+            journal.attach(mockEmployeeStore);
+        }
+        return mockEmployeeStore;
+    }
+
+    @Bean
+    public MockEmployeeIndex mockEmployeeIndex(MockEmployeeStore mockEmployeeStore) {
+        final var mockEmployeeIndex = new MockEmployeeIndex(mockEmployeeStore);
+        mockEmployeeStore.subscribe(mockEmployeeIndex);
+        return mockEmployeeIndex;
+    }
+
+    @Bean
+    public FuzzyNameIndex fuzzyNameIndex(MockEmployeeStore mockEmployeeStore) {
+        final var fuzzyNameIndex = new FuzzyNameIndex(mockEmployeeStore);
+        mockEmployeeStore.subscribe(fuzzyNameIndex);
+        return fuzzyNameIndex;
+    }
+
+    @Bean
+    public MockEmployeeAggregator mockEmployeeAggregator(
+            MockEmployeeStore mockEmployeeStore, MockEmployeeIndex mockEmployeeIndex) {
+        final var mockEmployeeAggregator = new MockEmployeeAggregator(mockEmployeeStore, mockEmployeeIndex);
+        mockEmployeeStore.subscribe(mockEmployeeAggregator);
+        return mockEmployeeAggregator;
+    }
+
+    @Bean
+    public MockEmployeeStatistics mockEmployeeStatistics(
+            MockEmployeeStore mockEmployeeStore,
+            @Value("${mock.employees.stats.relative-accuracy:0.01}") double relativeAccuracy) {
+        final var mockEmployeeStatistics = new MockEmployeeStatistics(mockEmployeeStore, relativeAccuracy);
+        mockEmployeeStore.subscribe(mockEmployeeStatistics);
+        return mockEmployeeStatistics;
+    }
+
+    /*
+     * Logs the seed the roster actually came from, which for a reused dataset file is the one in its header.
+     */
+    private static void seed(
+            MockEmployeeStore mockEmployeeStore, int maxEmployees, Long seed, Locale locale, String datasetFile) {
+        final var started = System.nanoTime();
+        final var dataset = datasetFile.isBlank()
+                ? generate(maxEmployees, seed, locale)
+                : loadOrGenerate(Path.of(datasetFile), maxEmployees, seed, locale);
+        mockEmployeeStore.addAll(dataset.employees());
+        log.info(
+                "Loaded {} mock employees (seed {}, locale {}) in {} ms",
+                dataset.employees().size(),
+                dataset.seed(),
+                dataset.locale().toLanguageTag(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /*
+     * A dataset file is reused as long as it holds the configured row count and locale and, when one is configured,
+     * seed.
+     */
+    private static MockEmployeeDatasetFile.Dataset loadOrGenerate(
+            Path path, int maxEmployees, Long seed, Locale locale) {
+        final var existing = MockEmployeeDatasetFile.read(path)
+                .filter(candidate -> candidate.employees().size() == maxEmployees)
+                .filter(candidate -> candidate.locale().equals(locale))
+                .filter(candidate -> seed == null || candidate.seed() == seed);
+        if (existing.isPresent()) {
+            log.info("Using dataset file {}", path);
+            return existing.get();
+        }
+
+        final var dataset = generate(maxEmployees, seed, locale);
+        MockEmployeeDatasetFile.write(path, dataset);
+        log.info("Wrote dataset file {}", path);
+        return dataset;
+    }
+
+    private static MockEmployeeDatasetFile.Dataset generate(int maxEmployees, Long seed, Locale locale) {
+        final var effectiveSeed = seed != null ? seed : RandomGenerator.getDefault().nextLong();
+        return new MockEmployeeDatasetFile.Dataset(
+                effectiveSeed, locale, new MockEmployeeGenerator(locale).generate(maxEmployees, effectiveSeed));
+    }
+
+    /*
+     * Registered as a bean so every endpoint can answer in Smile when asked, built from the application's Jackson
+     * settings rather than the converter's own defaults.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder) {
+        return new MappingJackson2SmileHttpMessageConverter(
+                jackson2ObjectMapperBuilder.factory(new SmileFactory()).build());
+    }
+
+    /*
+     * Shared by the servlet interceptor below and the reactive web filter, so both runtimes throttle alike.
+     */
     @Bean
-    public Faker faker() {
-        return new Faker(Locale.getDefault());
+    public RequestLimiter requestLimiter() {
+        return switch (rateLimitProperties.mode()) {
+            case RANDOM -> new RandomRequestLimiter();
+            case TOKEN_BUCKET -> new TokenBucketRequestLimiter(rateLimitProperties);
+            case NONE -> {
+                log.info("Rate limiting is disabled");
+                yield RequestLimiter.UNLIMITED;
+            }
+        };
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * Servlet only: the handler mapping it names endpoints with exists only on that stack.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FaultInjectionFilter faultInjectionFilter(
+            FaultInjector faultInjector, RequestMappingHandlerMapping requestMappingHandlerMapping) {
+        return new FaultInjectionFilter(faultInjector, requestMappingHandlerMapping);
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        final var requestLimiter = requestLimiter();
+        if (requestLimiter != RequestLimiter.UNLIMITED) {
+            registry.addInterceptor(new RequestLimitInterceptor(requestLimiter))
+                    .excludePathPatterns(FaultInjector.ADMIN_PATH + "/**");
+        }
     }
 }
@@ -0,0 +1,52 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.web.FaultInjectionFilter;
+import com.reliaquest.server.web.FaultInjector;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Lets performance suites script upstream behaviour at runtime: {@code PUT} replaces the fault profile, {@code DELETE}
+ * restores a well-behaved server. Faults are applied by {@link FaultInjectionFilter}, which only exists on the servlet
+ * stack; elsewhere a profile other than {@link FaultProfile#NONE} is refused rather than accepted and ignored.
+ */
+@RestController
+@RequestMapping(FaultInjector.ADMIN_PATH)
+@RequiredArgsConstructor
+public class FaultInjectionController {
+
+    private final FaultInjector faultInjector;
+    private final ObjectProvider<FaultInjectionFilter> faultInjectionFilter;
+
+    @GetMapping()
+    public Response<FaultProfile> getFaults() {
+        return Response.handledWith(faultInjector.profile());
+    }
+
+    @PutMapping()
+    public ResponseEntity<Response<FaultProfile>> updateFaults(@Valid @RequestBody FaultProfile profile) {
+        if (!FaultProfile.NONE.equals(profile) && faultInjectionFilter.getIfAvailable() == null) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED)
+                    .body(Response.error("Fault injection is only available on the servlet stack."));
+        }
+        faultInjector.update(profile);
+        return ResponseEntity.ok(Response.handledWith(profile));
+    }
+
+    @DeleteMapping()
+    public Response<FaultProfile> resetFaults() {
+        faultInjector.reset();
+        return Response.handledWith(faultInjector.profile());
+    }
+}
@@ -3,12 +3,18 @@ package com.reliaquest.server.controller;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeAggregates;
+import com.reliaquest.server.model.MockEmployeeStats;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeIndex;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.RosterResponseCache;
+import com.reliaquest.server.web.WireFormat;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,7 +22,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -24,11 +32,61 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    public static final String ROSTER_VERSION_HEADER = "X-Roster-Version";
+
     private final MockEmployeeService mockEmployeeService;
 
+    private final RosterResponseCache rosterResponseCache;
+
+    /*
+     * Writes the prepared bytes of one immutable snapshot in the negotiated wire format, pre-compressed when the client
+     * accepts gzip so the container does not compress again. The version doubles as a weak ETag so unchanged rosters
+     * answer 304.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<byte[]> getEmployees(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        final var format = WireFormat.negotiate(accept);
+        final var body = rosterResponseCache.get(mockEmployeeService.getSnapshot(), format);
+        final var gzip = acceptsGzip(acceptEncoding);
+        final var response = ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .eTag("W/\"" + body.version() + "\"")
+                .header(ROSTER_VERSION_HEADER, String.valueOf(body.version()))
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(gzip ? body.gzip() : body.plain());
+    }
+
+    @GetMapping("/query")
+    public Response<List<MockEmployee>> queryEmployees(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) Integer minSalary,
+            @RequestParam(required = false) Integer maxSalary,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxAge,
+            @RequestParam(required = false) String title) {
+        return Response.handledWith(mockEmployeeService.query(
+                new MockEmployeeIndex.Query(name, minSalary, maxSalary, minAge, maxAge, title)));
+    }
+
+    @GetMapping("/fuzzy")
+    public Response<List<MockEmployee>> fuzzySearchEmployees(
+            @RequestParam String name, @RequestParam(defaultValue = "50") int limit) {
+        return Response.handledWith(mockEmployeeService.fuzzySearch(name, limit));
+    }
+
+    @GetMapping("/aggregates")
+    public Response<MockEmployeeAggregates> getAggregates(@RequestParam(defaultValue = "10") int top) {
+        return Response.handledWith(mockEmployeeService.aggregate(top));
+    }
+
+    @GetMapping("/stats")
+    public Response<MockEmployeeStats> getStats() {
+        return Response.handledWith(mockEmployeeService.stats());
     }
 
     @GetMapping("/{id}")
@@ -48,4 +106,25 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Response<MockEmployee>> deleteEmployeeById(@PathVariable("id") UUID uuid) {
+        return mockEmployeeService
+                .deleteById(uuid)
+                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (final var coding : acceptEncoding.split(",")) {
+            final var parts = coding.trim().split(";");
+            if ("gzip".equalsIgnoreCase(parts[0].trim())) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
 }
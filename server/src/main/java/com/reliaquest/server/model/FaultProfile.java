@@ -0,0 +1,89 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Faults injected into API responses, replaced as a whole through {@code /admin/faults}. Every field is optional;
+ * omitted ones inject nothing.
+ *
+ * @param latency delay before every request is handled, unless {@code latencies} has one for its operation
+ * @param latencies delays keyed by controller method name, e.g. {@code getEmployees}
+ * @param errorRate share of requests answered with {@code errorStatus} instead of being handled
+ * @param resetRate share of requests whose response is cut off mid-body and aborted
+ * @param bytesPerSecond response body bandwidth, {@code 0} for unlimited
+ * @param dripChunkBytes when positive, response bodies are written in chunks of this size
+ * @param dripIntervalMillis pause after each dripped chunk
+ */
+public record FaultProfile(
+        @Valid Latency latency,
+        Map<String, @Valid Latency> latencies,
+        @DecimalMin("0.0") @DecimalMax("1.0") double errorRate,
+        @Min(500) @Max(599) Integer errorStatus,
+        @DecimalMin("0.0") @DecimalMax("1.0") double resetRate,
+        @PositiveOrZero long bytesPerSecond,
+        @PositiveOrZero int dripChunkBytes,
+        @PositiveOrZero long dripIntervalMillis) {
+
+    public static final FaultProfile NONE = new FaultProfile(null, null, 0, null, 0, 0, 0, 0);
+
+    public FaultProfile {
+        latencies = latencies == null ? Map.of() : Map.copyOf(latencies);
+        errorStatus = errorStatus == null ? 503 : errorStatus;
+    }
+
+    public Latency latencyOf(String operation) {
+        return latencies.getOrDefault(operation, latency);
+    }
+
+    public boolean shapesBody() {
+        return bytesPerSecond > 0 || dripChunkBytes > 0;
+    }
+
+    /**
+     * A latency distribution in milliseconds.
+     *
+     * <ul>
+     *   <li>{@code fixed}: always {@code millis}
+     *   <li>{@code uniform}: evenly between {@code millis} and {@code maxMillis}
+     *   <li>{@code log-normal}: median {@code millis}, spread {@code sigma}
+     * </ul>
+     *
+     * <p>On top of any of them, a share {@code tailRate} of requests waits another {@code tailMillis}, which models a
+     * long tail that the base distribution alone would not produce.
+     */
+    public record Latency(
+            Distribution distribution,
+            @PositiveOrZero long millis,
+            @PositiveOrZero long maxMillis,
+            @PositiveOrZero double sigma,
+            @DecimalMin("0.0") @DecimalMax("1.0") double tailRate,
+            @PositiveOrZero long tailMillis) {
+
+        public Latency {
+            distribution = distribution == null ? Distribution.FIXED : distribution;
+        }
+
+        public long sampleMillis(RandomGenerator random) {
+            final var base =
+                    switch (distribution) {
+                        case FIXED -> millis;
+                        case UNIFORM -> maxMillis > millis ? random.nextLong(millis, maxMillis + 1) : millis;
+                        case LOG_NORMAL -> Math.round(millis * Math.exp(sigma * random.nextGaussian()));
+                    };
+            return tailRate > 0 && random.nextDouble() < tailRate ? base + tailMillis : base;
+        }
+
+        public enum Distribution {
+            FIXED,
+            UNIFORM,
+            LOG_NORMAL
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import java.util.Map;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MockEmployeeAggregates(
+        long version,
+        long count,
+        long salarySum,
+        Double averageSalary,
+        Integer maxSalary,
+        List<MockEmployee> topEarners,
+        Map<String, TitleAggregates> titles) {
+
+    /**
+     * The same aggregates with only the first {@code top} earners.
+     */
+    public MockEmployeeAggregates withTop(int top) {
+        return top >= topEarners.size()
+                ? this
+                : new MockEmployeeAggregates(
+                        version, count, salarySum, averageSalary, maxSalary, topEarners.subList(0, top), titles);
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record TitleAggregates(long count, Double averageSalary) {}
+}
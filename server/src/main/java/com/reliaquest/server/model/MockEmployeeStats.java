@@ -0,0 +1,30 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Salary and age distributions of one roster version. Percentiles carry at most {@code relativeError} relative error;
+ * counts, means and histogram buckets are exact.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MockEmployeeStats(
+        long version, double relativeError, Distribution overall, Map<String, Distribution> titles) {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Distribution(long count, Summary salary, Summary age) {}
+
+    /**
+     * {@code min} and {@code max} are the 0th and 100th percentiles, so they carry the same error bound.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Summary(
+            long count, Double mean, Double min, Double max, Map<String, Double> percentiles, List<Bucket> histogram) {}
+
+    /**
+     * {@code from} is inclusive and {@code to} exclusive; the last bucket has no {@code to}.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Bucket(int from, Integer to, long count) {}
+}
@@ -0,0 +1,60 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.UUID;
+import lombok.NonNull;
+
+/**
+ * Compact binary encoding of a single {@link MockEmployee}: the id as two longs followed by each nullable field behind
+ * a presence flag. Shared by every on-disk format of the mock server.
+ */
+public final class MockEmployeeCodec {
+
+    private MockEmployeeCodec() {}
+
+    public static void write(@NonNull DataOutput out, @NonNull MockEmployee employee) throws IOException {
+        out.writeLong(employee.getId().getMostSignificantBits());
+        out.writeLong(employee.getId().getLeastSignificantBits());
+        writeString(out, employee.getName());
+        writeInteger(out, employee.getSalary());
+        writeInteger(out, employee.getAge());
+        writeString(out, employee.getTitle());
+        writeString(out, employee.getEmail());
+    }
+
+    public static MockEmployee read(@NonNull DataInput in) throws IOException {
+        return MockEmployee.builder()
+                .id(new UUID(in.readLong(), in.readLong()))
+                .name(readString(in))
+                .salary(readInteger(in))
+                .age(readInteger(in))
+                .title(readString(in))
+                .email(readString(in))
+                .build();
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeInteger(DataOutput out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readInteger(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+}
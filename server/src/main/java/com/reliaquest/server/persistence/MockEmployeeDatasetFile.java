@@ -0,0 +1,83 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import lombok.NonNull;
+
+/**
+ * Generated roster written to disk so later startups skip generation. The header records the seed, locale and row count
+ * the dataset was generated with, letting callers detect a file that no longer matches the configuration. A file in an
+ * older format reads as absent, so it is regenerated rather than trusted.
+ */
+public final class MockEmployeeDatasetFile {
+
+    private static final int MAGIC = 0x4D454453; // "MEDS"
+    private static final int FORMAT_VERSION = 2;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private MockEmployeeDatasetFile() {}
+
+    public record Dataset(long seed, Locale locale, List<MockEmployee> employees) {}
+
+    public static Optional<Dataset> read(@NonNull Path path) {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (final var in =
+                new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Unrecognized dataset file format: " + path);
+            }
+            if (in.readInt() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            final var seed = in.readLong();
+            final var locale = Locale.forLanguageTag(in.readUTF());
+            final var count = in.readInt();
+            final var employees = new ArrayList<MockEmployee>(count);
+            for (var i = 0; i < count; i++) {
+                employees.add(MockEmployeeCodec.read(in));
+            }
+            return Optional.of(new Dataset(seed, locale, employees));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read dataset file " + path, e);
+        }
+    }
+
+    /*
+     * Written to a sibling temp file and moved into place, so a crash never leaves a truncated dataset behind.
+     */
+    public static void write(@NonNull Path path, @NonNull Dataset dataset) {
+        try {
+            final var parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            final var temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            try (final var out =
+                    new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_SIZE))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(dataset.seed());
+                out.writeUTF(dataset.locale().toLanguageTag());
+                out.writeInt(dataset.employees().size());
+                for (final var employee : dataset.employees()) {
+                    MockEmployeeCodec.write(out, employee);
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write dataset file " + path, e);
+        }
+    }
+}
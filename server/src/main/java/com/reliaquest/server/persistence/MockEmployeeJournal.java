@@ -0,0 +1,506 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only write-ahead log for the mock roster with group commit and periodic compaction.
+ *
+ * <p>The directory holds one compacted snapshot {@code snapshot-N.dat} and the log segments {@code wal-N.log} written
+ * after it. Store changes are framed as {@code [length][crc32][type][payload]} records and queued under the store's
+ * write lock, which keeps the log in apply order. A single flusher thread writes whatever has queued up within the
+ * group-commit window and fsyncs it once, and writers block in {@link #awaitDurable()} until their record is on disk.
+ *
+ * <p>Compaction rotates to a new segment at a store checkpoint, writes the checkpoint snapshot and then deletes the
+ * older files. On boot the latest snapshot is loaded and the segments after it are replayed up to the first torn or
+ * corrupt record.
+ */
+@Slf4j
+public class MockEmployeeJournal implements MockEmployeeStore.Listener, Closeable {
+
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".dat";
+    private static final int SNAPSHOT_MAGIC = 0x4D45534E; // "MESN"
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final byte ADDED = 1;
+    private static final byte REMOVED = 2;
+    /*
+     * The largest payload a record can have: its type, an id and the employee fields, with each string at the 65535
+     * byte limit of modified UTF-8. A longer length can only come from a torn or corrupt header.
+     */
+    private static final int MAX_PAYLOAD =
+            1 + 2 * Long.BYTES + 3 * (1 + Short.BYTES + 0xFFFF) + 2 * (1 + Integer.BYTES);
+
+    private final Path directory;
+    private final Duration groupCommitWindow;
+    private final Duration snapshotInterval;
+
+    private final Object lock = new Object();
+    private List<Object> pending = new ArrayList<>();
+    private long appended;
+    private long durable;
+    private long recordsSinceSnapshot;
+    private IOException failure;
+    private boolean closed;
+
+    private long generation;
+    private boolean recovered;
+    private boolean compactOnAttach = true;
+    private FileChannel segment;
+    private MockEmployeeStore store;
+    private Thread flusher;
+    private ScheduledExecutorService compactor;
+
+    public MockEmployeeJournal(
+            @NonNull Path directory, @NonNull Duration groupCommitWindow, @NonNull Duration snapshotInterval) {
+        this.directory = directory;
+        this.groupCommitWindow = groupCommitWindow;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Loads the latest snapshot and replays the log after it into {@code store}.
+     *
+     * @return {@code false} when the directory holds no journal yet and the roster must be seeded some other way
+     */
+    public boolean recover(@NonNull MockEmployeeStore store) {
+        try {
+            Files.createDirectories(directory);
+            final var snapshotGeneration = latestGeneration(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+            if (snapshotGeneration.isEmpty()) {
+                return false;
+            }
+
+            final var started = System.nanoTime();
+            generation = snapshotGeneration.getAsLong();
+            final var roster = new LinkedHashMap<UUID, MockEmployee>();
+            readSnapshot(file(SNAPSHOT_PREFIX, generation, SNAPSHOT_SUFFIX))
+                    .forEach(employee -> roster.put(employee.getId(), employee));
+
+            var replayed = 0L;
+            var intact = true;
+            for (final var segmentGeneration : generations(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+                if (segmentGeneration < generation) {
+                    continue;
+                }
+                final var replay = replaySegment(file(SEGMENT_PREFIX, segmentGeneration, SEGMENT_SUFFIX), roster);
+                replayed += replay.records();
+                generation = segmentGeneration;
+                if (!replay.intact()) {
+                    log.warn(
+                            "Journal segment {} ends in a torn record; later records are discarded",
+                            segmentGeneration);
+                    intact = false;
+                    break;
+                }
+            }
+
+            // Replay into a map first so the store publishes a single version instead of one per record
+            store.addAll(roster.values());
+            recovered = true;
+            compactOnAttach = replayed > 0 || !intact;
+            log.info(
+                    "Recovered {} employees from snapshot {} and {} journal records in {} ms",
+                    roster.size(),
+                    snapshotGeneration.getAsLong(),
+                    replayed,
+                    (System.nanoTime() - started) / 1_000_000);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to recover journal from " + directory, e);
+        }
+    }
+
+    /**
+     * Starts journaling changes to {@code store}. A fresh or replayed roster is compacted into a new snapshot first, so
+     * the log always starts from a clean segment.
+     */
+    public void attach(@NonNull MockEmployeeStore store) {
+        try {
+            Files.createDirectories(directory);
+            this.store = store;
+            if (!recovered) {
+                // Segments without a snapshot to replay them onto cannot be used
+                deleteObsolete(Long.MAX_VALUE);
+            }
+            if (compactOnAttach) {
+                generation = recovered ? generation + 1 : 0;
+                writeSnapshot(generation, store.snapshot().employees());
+                deleteObsolete(generation);
+            }
+            segment = openSegment(generation);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open journal in " + directory, e);
+        }
+
+        store.addListener(this);
+        flusher = new Thread(this::flushLoop, "mock-journal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "mock-journal-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        compactor.scheduleWithFixedDelay(
+                this::compact, snapshotInterval.toMillis(), snapshotInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Journaling mock employees to {} starting at segment {}", directory, generation);
+    }
+
+    @Override
+    public void onAdded(MockEmployee employee) {
+        enqueue(encode(ADDED, out -> MockEmployeeCodec.write(out, employee)));
+    }
+
+    @Override
+    public void onRemoved(MockEmployee employee) {
+        enqueue(encode(REMOVED, out -> {
+            out.writeLong(employee.getId().getMostSignificantBits());
+            out.writeLong(employee.getId().getLeastSignificantBits());
+        }));
+    }
+
+    /**
+     * Blocks until every record queued before this call has been fsynced.
+     */
+    public void awaitDurable() {
+        synchronized (lock) {
+            final var target = appended;
+            while (durable < target && failure == null) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for journal commit", e);
+                }
+            }
+            if (failure != null) {
+                throw new UncheckedIOException("Journal is no longer writable", failure);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (compactor != null) {
+            compactor.shutdownNow();
+        }
+        synchronized (lock) {
+            closed = true;
+            lock.notifyAll();
+        }
+        try {
+            if (flusher != null) {
+                flusher.join();
+            }
+            if (segment != null) {
+                segment.close();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.warn("Failed to close journal segment", e);
+        }
+    }
+
+    private void enqueue(byte[] record) {
+        synchronized (lock) {
+            pending.add(record);
+            appended++;
+            recordsSinceSnapshot++;
+            lock.notifyAll();
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            final List<Object> batch;
+            final long target;
+            synchronized (lock) {
+                while (pending.isEmpty() && !closed) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                if (pending.isEmpty()) {
+                    return;
+                }
+            }
+            // Let concurrent writers join this commit before paying for the fsync
+            if (!groupCommitWindow.isZero()) {
+                try {
+                    Thread.sleep(groupCommitWindow.toMillis(), groupCommitWindow.toNanosPart() % 1_000_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            synchronized (lock) {
+                batch = pending;
+                pending = new ArrayList<>();
+                target = appended;
+            }
+            try {
+                write(batch);
+            } catch (IOException e) {
+                log.error("Failed to write mock employee journal; further writes will fail", e);
+                synchronized (lock) {
+                    failure = e;
+                    lock.notifyAll();
+                }
+                return;
+            }
+            synchronized (lock) {
+                durable = target;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private void write(List<Object> batch) throws IOException {
+        final var buffers = new ArrayList<ByteBuffer>(batch.size());
+        for (final var item : batch) {
+            if (item instanceof Rotation rotation) {
+                writeFully(buffers);
+                segment.force(false);
+                segment.close();
+                segment = openSegment(rotation.generation());
+                buffers.clear();
+            } else {
+                buffers.add(ByteBuffer.wrap((byte[]) item));
+            }
+        }
+        writeFully(buffers);
+        segment.force(false);
+    }
+
+    private void writeFully(List<ByteBuffer> buffers) throws IOException {
+        if (buffers.isEmpty()) {
+            return;
+        }
+        final var array = buffers.toArray(ByteBuffer[]::new);
+        while (array[array.length - 1].hasRemaining()) {
+            segment.write(array);
+        }
+    }
+
+    /*
+     * The rotation marker is queued at a store checkpoint, so the new segment starts exactly where the snapshot ends.
+     */
+    private void compact() {
+        try {
+            synchronized (lock) {
+                if (recordsSinceSnapshot == 0 || failure != null) {
+                    return;
+                }
+            }
+            final var next = generation + 1;
+            final var snapshot = store.checkpoint(() -> {
+                synchronized (lock) {
+                    pending.add(new Rotation(next));
+                    recordsSinceSnapshot = 0;
+                    lock.notifyAll();
+                }
+            });
+            generation = next;
+
+            final var started = System.nanoTime();
+            writeSnapshot(next, snapshot.employees());
+            deleteObsolete(next);
+            log.info(
+                    "Compacted mock employee journal into snapshot {} ({} employees) in {} ms",
+                    next,
+                    snapshot.size(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            log.error("Failed to compact mock employee journal", e);
+        }
+    }
+
+    private FileChannel openSegment(long segmentGeneration) throws IOException {
+        return FileChannel.open(
+                file(SEGMENT_PREFIX, segmentGeneration, SEGMENT_SUFFIX),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private void writeSnapshot(long snapshotGeneration, List<MockEmployee> employees) throws IOException {
+        final var target = file(SNAPSHOT_PREFIX, snapshotGeneration, SNAPSHOT_SUFFIX);
+        final var temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try (final var channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            final var out =
+                    new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeLong(snapshotGeneration);
+            out.writeInt(employees.size());
+            for (final var employee : employees) {
+                MockEmployeeCodec.write(out, employee);
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private List<MockEmployee> readSnapshot(Path path) throws IOException {
+        try (final var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Unrecognized snapshot file format: " + path);
+            }
+            in.readLong();
+            final var count = in.readInt();
+            final var employees = new ArrayList<MockEmployee>(count);
+            for (var i = 0; i < count; i++) {
+                employees.add(MockEmployeeCodec.read(in));
+            }
+            return employees;
+        }
+    }
+
+    private Replay replaySegment(Path path, LinkedHashMap<UUID, MockEmployee> roster) throws IOException {
+        var records = 0L;
+        try (final var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE))) {
+            while (true) {
+                final int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    return new Replay(records, true);
+                }
+                // Checked before allocating, so a corrupt length ends the replay instead of exhausting the heap
+                if (length <= 0 || length > MAX_PAYLOAD) {
+                    return new Replay(records, false);
+                }
+                final var payload = new byte[length];
+                final long checksum;
+                try {
+                    checksum = in.readInt() & 0xFFFFFFFFL;
+                    in.readFully(payload);
+                } catch (EOFException e) {
+                    return new Replay(records, false);
+                }
+                if (checksum != checksum(payload)) {
+                    return new Replay(records, false);
+                }
+                apply(payload, roster);
+                records++;
+            }
+        }
+    }
+
+    private static void apply(byte[] payload, LinkedHashMap<UUID, MockEmployee> roster) throws IOException {
+        final var in = new DataInputStream(new ByteArrayInputStream(payload));
+        final var type = in.readByte();
+        if (type == ADDED) {
+            final var employee = MockEmployeeCodec.read(in);
+            // Re-adding an id moves it to the end, as it does in the store
+            roster.remove(employee.getId());
+            roster.put(employee.getId(), employee);
+        } else if (type == REMOVED) {
+            roster.remove(new UUID(in.readLong(), in.readLong()));
+        } else {
+            throw new IOException("Unknown journal record type " + type);
+        }
+    }
+
+    private static byte[] encode(byte type, RecordWriter writer) {
+        try {
+            final var payloadBytes = new ByteArrayOutputStream(128);
+            final var payload = new DataOutputStream(payloadBytes);
+            payload.writeByte(type);
+            writer.write(payload);
+            final var body = payloadBytes.toByteArray();
+
+            final var record = ByteBuffer.allocate(Integer.BYTES * 2 + body.length);
+            record.putInt(body.length);
+            record.putInt((int) checksum(body));
+            record.put(body);
+            return record.array();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode journal record", e);
+        }
+    }
+
+    private static long checksum(byte[] bytes) {
+        final var crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    private void deleteObsolete(long keepGeneration) throws IOException {
+        for (final var snapshotGeneration : generations(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (snapshotGeneration != keepGeneration) {
+                Files.deleteIfExists(file(SNAPSHOT_PREFIX, snapshotGeneration, SNAPSHOT_SUFFIX));
+            }
+        }
+        for (final var segmentGeneration : generations(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            if (segmentGeneration < keepGeneration) {
+                Files.deleteIfExists(file(SEGMENT_PREFIX, segmentGeneration, SEGMENT_SUFFIX));
+            }
+        }
+    }
+
+    private OptionalLong latestGeneration(String prefix, String suffix) throws IOException {
+        final var generations = generations(prefix, suffix);
+        return generations.isEmpty() ? OptionalLong.empty() : OptionalLong.of(generations.get(generations.size() - 1));
+    }
+
+    private List<Long> generations(String prefix, String suffix) throws IOException {
+        try (final var files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                    .map(name -> name.substring(prefix.length(), name.length() - suffix.length()))
+                    .filter(number -> !number.isEmpty() && number.chars().allMatch(Character::isDigit))
+                    .map(Long::parseLong)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path file(String prefix, long fileGeneration, String suffix) {
+        return directory.resolve(prefix + fileGeneration + suffix);
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private record Rotation(long generation) {}
+
+    private record Replay(long records, boolean intact) {}
+}
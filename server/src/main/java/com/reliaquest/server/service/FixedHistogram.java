@@ -0,0 +1,55 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployeeStats;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Exact counts over equal-width buckets starting at zero; values below zero count in the first bucket and values past
+ * the last boundary in the last, open-ended one. Mergeable by adding counts, and removal is exact. Not thread-safe.
+ */
+final class FixedHistogram {
+
+    private final int width;
+    private final long[] counts;
+
+    FixedHistogram(int width, int buckets) {
+        this.width = width;
+        this.counts = new long[buckets];
+    }
+
+    void add(int value) {
+        counts[bucket(value)]++;
+    }
+
+    void remove(int value) {
+        counts[bucket(value)]--;
+    }
+
+    void merge(FixedHistogram other) {
+        if (other.width != width || other.counts.length != counts.length) {
+            throw new IllegalArgumentException("Only histograms with the same buckets merge");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+    }
+
+    /**
+     * Non-empty buckets in ascending order.
+     */
+    List<MockEmployeeStats.Bucket> buckets() {
+        final var buckets = new ArrayList<MockEmployeeStats.Bucket>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                buckets.add(new MockEmployeeStats.Bucket(
+                        i * width, i == counts.length - 1 ? null : (i + 1) * width, counts[i]));
+            }
+        }
+        return buckets;
+    }
+
+    private int bucket(int value) {
+        return Math.max(0, Math.min(value / width, counts.length - 1));
+    }
+}
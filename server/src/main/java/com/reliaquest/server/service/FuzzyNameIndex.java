@@ -0,0 +1,226 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Typo-tolerant name search, kept in step with {@link MockEmployeeStore} through its listener hook.
+ *
+ * <p>Names are split into lower-cased tokens. Every distinct token is a node of a BK-tree keyed by Levenshtein
+ * distance, and each token maps to the ids of the employees whose name contains it. A query token is looked up by
+ * walking only the subtrees the triangle inequality leaves open, so the cost grows with the number of distinct tokens
+ * near the query, not with the roster: a million employees share far fewer distinct first and last names.
+ *
+ * <p>An employee matches when every query token lies within {@link #maxDistance(int)} edits of one of its name tokens,
+ * and ranks by the sum of those distances. Tokens whose last employee is removed stay in the tree with no ids, which
+ * keeps removals O(1) and lookups lock-free.
+ *
+ * <p>A common first name can be shared by a good part of the roster, so a query never scans more than
+ * {@link #MAX_POSTINGS_PER_TOKEN} ids per query token, closest tokens first, and ranks through a heap bounded by the
+ * limit; only candidates that still make the cut are looked up in the store.
+ */
+@RequiredArgsConstructor
+public class FuzzyNameIndex implements MockEmployeeStore.Listener {
+
+    public static final int MAX_LIMIT = 1000;
+
+    /*
+     * Bounds the work per query whatever the input: longer tokens and further tokens are ignored.
+     */
+    private static final int MAX_TOKEN_LENGTH = 32;
+    private static final int MAX_QUERY_TOKENS = 4;
+    static final int MAX_POSTINGS_PER_TOKEN = 10_000;
+
+    private static final Comparator<Match> RANKING = Comparator.comparingInt(Match::score)
+            .thenComparing(match -> match.employee().getName(), String.CASE_INSENSITIVE_ORDER);
+
+    @NonNull private final MockEmployeeStore mockEmployeeStore;
+
+    private final Map<String, Set<UUID>> byToken = new ConcurrentHashMap<>();
+
+    private volatile Node root;
+
+    @Override
+    public void onAdded(MockEmployee employee) {
+        if (employee.getName() == null) {
+            return;
+        }
+        for (final var token : tokens(employee.getName())) {
+            byToken.computeIfAbsent(token, this::insert).add(employee.getId());
+        }
+    }
+
+    @Override
+    public void onRemoved(MockEmployee employee) {
+        if (employee.getName() == null) {
+            return;
+        }
+        for (final var token : tokens(employee.getName())) {
+            final var ids = byToken.get(token);
+            if (ids != null) {
+                ids.remove(employee.getId());
+            }
+        }
+    }
+
+    /**
+     * Employees whose names are within a few edits of {@code name}, closest first, ties broken by name.
+     */
+    public List<MockEmployee> search(@NonNull String name, int limit) {
+        final var queryTokens = tokens(name).stream().limit(MAX_QUERY_TOKENS).toList();
+        if (queryTokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<UUID, Integer> scores = null;
+        for (final var queryToken : queryTokens) {
+            scores = distances(queryToken, scores);
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        final var bound = Math.min(limit, MAX_LIMIT);
+        final var best = new PriorityQueue<Match>(bound + 1, RANKING.reversed());
+        scores.forEach((id, score) -> {
+            if (best.size() == bound && score > best.peek().score()) {
+                return;
+            }
+            mockEmployeeStore.findById(id).ifPresent(employee -> {
+                best.add(new Match(employee, score));
+                if (best.size() > bound) {
+                    best.poll();
+                }
+            });
+        });
+        return best.stream().sorted(RANKING).map(Match::employee).toList();
+    }
+
+    /**
+     * Edits tolerated for a query token of the given length: one for short tokens, where two would match almost
+     * anything, up to three for long ones.
+     */
+    static int maxDistance(int length) {
+        if (length <= 4) {
+            return 1;
+        }
+        return length <= 8 ? 2 : 3;
+    }
+
+    static int distance(String a, String b) {
+        var previous = new int[b.length() + 1];
+        var current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                final var substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            final var swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /*
+     * Called once per distinct token, under the store's write lock, so the tree has a single writer. Children are
+     * published through concurrent maps, so readers walking the tree meanwhile see a node either fully or not at all.
+     */
+    private Set<UUID> insert(String token) {
+        final var node = new Node(token);
+        if (root == null) {
+            root = node;
+        } else {
+            var parent = root;
+            while (true) {
+                final var child = parent.children().putIfAbsent(distance(token, parent.token()), node);
+                if (child == null) {
+                    break;
+                }
+                parent = child;
+            }
+        }
+        return ConcurrentHashMap.newKeySet();
+    }
+
+    private Map<String, Integer> within(String queryToken, int maxDistance) {
+        final var matches = new HashMap<String, Integer>();
+        final var pending = new ArrayDeque<Node>();
+        Optional.ofNullable(root).ifPresent(pending::add);
+        while (!pending.isEmpty()) {
+            final var node = pending.poll();
+            final var distance = distance(queryToken, node.token());
+            if (distance <= maxDistance) {
+                matches.put(node.token(), distance);
+            }
+            for (int edge = Math.max(1, distance - maxDistance); edge <= distance + maxDistance; edge++) {
+                final var child = node.children().get(edge);
+                if (child != null) {
+                    pending.add(child);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /*
+     * Scores after one more query token: each id's distance to it added to its score so far, or for the first token
+     * just the distance. Postings are scanned closest token first and at most MAX_POSTINGS_PER_TOKEN of them, and after
+     * the first token only ids that are still candidates are kept.
+     */
+    private Map<UUID, Integer> distances(String queryToken, Map<UUID, Integer> scores) {
+        final var matches = within(queryToken, maxDistance(queryToken.length())).entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .toList();
+        final var distances = new HashMap<UUID, Integer>();
+        var scanned = 0;
+        for (final var match : matches) {
+            for (final var id : byToken.getOrDefault(match.getKey(), Set.of())) {
+                if (++scanned > MAX_POSTINGS_PER_TOKEN) {
+                    return distances;
+                }
+                final var score = scores == null ? Integer.valueOf(0) : scores.get(id);
+                if (score != null) {
+                    distances.merge(id, score + match.getValue(), Math::min);
+                }
+            }
+        }
+        return distances;
+    }
+
+    private static List<String> tokens(String name) {
+        final var tokens = new ArrayList<String>();
+        for (final var token : name.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty() && token.length() <= MAX_TOKEN_LENGTH && !tokens.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private record Node(String token, Map<Integer, Node> children) {
+
+        Node(String token) {
+            this(token, new ConcurrentHashMap<>());
+        }
+    }
+
+    private record Match(MockEmployee employee, int score) {}
+}
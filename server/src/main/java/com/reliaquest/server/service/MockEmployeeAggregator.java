@@ -0,0 +1,149 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeAggregates;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Roster aggregates materialized once per published roster version, so the aggregates endpoint is a single volatile
+ * read with no computation.
+ *
+ * <p>Count, salary totals and per-title totals are running sums updated by each change under the store's write lock.
+ * The top {@link #MAX_TOP} earners are kept the same way, in the order of {@link MockEmployeeIndex#topBySalary}: a
+ * new employee enters only if it outranks the last of them, and the list is refilled from the index's salary skip list
+ * only when one of them is deleted while the list is full. When the store publishes a version, these are frozen into
+ * one immutable {@link MockEmployeeAggregates} attached to that version's {@link MockEmployeeStore.Snapshot}, so a
+ * reader never sees figures from two versions side by side, or a roster and aggregates that disagree. A batch write
+ * materializes once, not once per employee, and the top list is copied only when it changed.
+ */
+@RequiredArgsConstructor
+public class MockEmployeeAggregator implements MockEmployeeStore.Listener {
+
+    public static final int MAX_TOP = 1000;
+
+    private static final Comparator<MockEmployee> BY_SALARY_DESCENDING = Comparator.comparing(MockEmployee::getSalary)
+            .thenComparing(MockEmployee::getId)
+            .reversed();
+
+    @NonNull private final MockEmployeeStore mockEmployeeStore;
+
+    @NonNull private final MockEmployeeIndex mockEmployeeIndex;
+
+    /*
+     * Only touched under the store's write lock.
+     */
+    private final Totals totals = new Totals();
+    private final Map<String, Totals> titleTotals = new HashMap<>();
+    private final TreeMap<String, MockEmployeeAggregates.TitleAggregates> titles = new TreeMap<>();
+    private final NavigableSet<MockEmployee> top = new TreeSet<>(BY_SALARY_DESCENDING);
+    private boolean topStale;
+    private boolean topChanged = true;
+    private List<MockEmployee> frozenTop = List.of();
+
+    @Override
+    public void onAdded(MockEmployee employee) {
+        totals.add(employee.getSalary(), 1);
+        if (employee.getTitle() != null) {
+            final var title = titleTotals.computeIfAbsent(employee.getTitle(), ignored -> new Totals());
+            title.add(employee.getSalary(), 1);
+            titles.put(employee.getTitle(), title.aggregates());
+        }
+        if (employee.getSalary() != null && !topStale) {
+            if (top.size() < MAX_TOP || BY_SALARY_DESCENDING.compare(employee, top.last()) < 0) {
+                top.add(employee);
+                if (top.size() > MAX_TOP) {
+                    top.pollLast();
+                }
+                topChanged = true;
+            }
+        }
+    }
+
+    @Override
+    public void onRemoved(MockEmployee employee) {
+        totals.add(employee.getSalary(), -1);
+        if (employee.getTitle() != null) {
+            final var title = titleTotals.get(employee.getTitle());
+            if (title != null) {
+                title.add(employee.getSalary(), -1);
+                if (title.count == 0) {
+                    titleTotals.remove(employee.getTitle());
+                    titles.remove(employee.getTitle());
+                } else {
+                    titles.put(employee.getTitle(), title.aggregates());
+                }
+            }
+        }
+        if (employee.getSalary() != null && !topStale) {
+            final var full = top.size() == MAX_TOP;
+            if (top.remove(employee)) {
+                // With a full list, the next earner in line is not in it
+                topStale = full;
+                topChanged = true;
+            }
+        }
+    }
+
+    @Override
+    public void onPublished(MockEmployeeStore.Snapshot snapshot) {
+        if (topStale) {
+            top.clear();
+            top.addAll(mockEmployeeIndex.topBySalary(MAX_TOP));
+            topStale = false;
+        }
+        if (topChanged) {
+            frozenTop = List.copyOf(top);
+            topChanged = false;
+        }
+        snapshot.attach(
+                MockEmployeeAggregates.class,
+                new MockEmployeeAggregates(
+                        snapshot.version(),
+                        totals.count,
+                        totals.salarySum,
+                        totals.average(),
+                        top.isEmpty() ? null : top.first().getSalary(),
+                        frozenTop,
+                        Collections.unmodifiableMap(new TreeMap<>(titles))));
+    }
+
+    public MockEmployeeAggregates aggregate(int top) {
+        return mockEmployeeStore
+                .snapshot()
+                .view(MockEmployeeAggregates.class)
+                .orElseThrow(() -> new IllegalStateException("Aggregator is not subscribed to the store"))
+                .withTop(Math.max(0, Math.min(top, MAX_TOP)));
+    }
+
+    private static final class Totals {
+
+        private long count;
+        private long salaried;
+        private long salarySum;
+
+        void add(Integer salary, int sign) {
+            count += sign;
+            if (salary != null) {
+                salaried += sign;
+                salarySum += (long) sign * salary;
+            }
+        }
+
+        Double average() {
+            return salaried == 0 ? null : (double) salarySum / salaried;
+        }
+
+        MockEmployeeAggregates.TitleAggregates aggregates() {
+            return new MockEmployeeAggregates.TitleAggregates(count, average());
+        }
+    }
+}
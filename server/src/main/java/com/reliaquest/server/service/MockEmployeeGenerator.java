@@ -0,0 +1,69 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import net.datafaker.Faker;
+
+/**
+ * Generates mock rosters in fixed-size chunks spread across the common fork-join pool.
+ *
+ * <p>Every chunk draws from its own {@link Faker} seeded from the roster seed and the chunk index, so the same seed
+ * always yields the same roster no matter how chunks are scheduled across threads. Only the given locale shapes the
+ * data, never the JVM default, so a seed reproduces its roster on any machine.
+ */
+@RequiredArgsConstructor
+public class MockEmployeeGenerator {
+
+    static final int CHUNK_SIZE = 10_000;
+
+    @NonNull private final Locale locale;
+
+    public List<MockEmployee> generate(int count, long seed) {
+        final var chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk ->
+                        generateChunk(chunkSeed(seed, chunk), Math.min(CHUNK_SIZE, count - chunk * CHUNK_SIZE)))
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    private List<MockEmployee> generateChunk(long seed, int size) {
+        final var random = new Random(seed);
+        final var faker = new Faker(locale, random);
+        final var employees = new ArrayList<MockEmployee>(size);
+        for (var i = 0; i < size; i++) {
+            employees.add(MockEmployee.builder()
+                    .id(randomUuid(random))
+                    .name(faker.name().fullName())
+                    .salary(faker.number().numberBetween(30000, 500000))
+                    .age(faker.number().numberBetween(16, 70))
+                    .title(faker.job().title())
+                    .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                            faker.twitter().userName().toLowerCase(Locale.ROOT)))
+                    .build());
+        }
+        return employees;
+    }
+
+    private static long chunkSeed(long seed, int chunk) {
+        return seed * 0x9E3779B97F4A7C15L + chunk;
+    }
+
+    /*
+     * Version 4 layout drawn from the seeded generator, unlike UUID.randomUUID() which is not reproducible.
+     */
+    private static UUID randomUuid(Random random) {
+        final var mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        final var leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
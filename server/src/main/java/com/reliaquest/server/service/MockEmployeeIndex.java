@@ -0,0 +1,186 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Secondary indexes over the roster, kept in step with {@link MockEmployeeStore} through its listener hook.
+ *
+ * <ul>
+ *   <li>salary and age: skip lists ordered by value, answering range queries in O(log n + matches)
+ *   <li>title: case-insensitive title to ids
+ *   <li>name: lower-cased trigrams to ids; a substring of three or more characters can only match names containing all
+ *       of its trigrams, so the smallest posting set is the candidate list
+ * </ul>
+ *
+ * <p>Lookups are lock-free and weakly consistent with concurrent writes; every candidate is re-resolved against the
+ * store and re-checked against the full filter before it is returned.
+ */
+@RequiredArgsConstructor
+public class MockEmployeeIndex implements MockEmployeeStore.Listener {
+
+    private static final int GRAM = 3;
+    private static final UUID LOWEST_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+    private static final UUID HIGHEST_ID = new UUID(Long.MAX_VALUE, Long.MAX_VALUE);
+    private static final Comparator<Ranked> BY_VALUE =
+            Comparator.comparingInt(Ranked::value).thenComparing(Ranked::id);
+
+    @NonNull private final MockEmployeeStore mockEmployeeStore;
+
+    private final NavigableSet<Ranked> bySalary = new ConcurrentSkipListSet<>(BY_VALUE);
+    private final NavigableSet<Ranked> byAge = new ConcurrentSkipListSet<>(BY_VALUE);
+    private final Map<String, Set<UUID>> byTitle = new ConcurrentHashMap<>();
+    private final Map<String, Set<UUID>> byNameGram = new ConcurrentHashMap<>();
+
+    @Override
+    public void onAdded(MockEmployee employee) {
+        final var id = employee.getId();
+        if (employee.getSalary() != null) {
+            bySalary.add(new Ranked(employee.getSalary(), id));
+        }
+        if (employee.getAge() != null) {
+            byAge.add(new Ranked(employee.getAge(), id));
+        }
+        if (employee.getTitle() != null) {
+            byTitle.computeIfAbsent(key(employee.getTitle()), ignored -> ConcurrentHashMap.newKeySet())
+                    .add(id);
+        }
+        if (employee.getName() != null) {
+            grams(key(employee.getName())).forEach(gram -> byNameGram
+                    .computeIfAbsent(gram, ignored -> ConcurrentHashMap.newKeySet())
+                    .add(id));
+        }
+    }
+
+    @Override
+    public void onRemoved(MockEmployee employee) {
+        final var id = employee.getId();
+        if (employee.getSalary() != null) {
+            bySalary.remove(new Ranked(employee.getSalary(), id));
+        }
+        if (employee.getAge() != null) {
+            byAge.remove(new Ranked(employee.getAge(), id));
+        }
+        if (employee.getTitle() != null) {
+            removePosting(byTitle, key(employee.getTitle()), id);
+        }
+        if (employee.getName() != null) {
+            grams(key(employee.getName())).forEach(gram -> removePosting(byNameGram, gram, id));
+        }
+    }
+
+    /**
+     * Drives the query from the most selective index available (title, then name, salary and age) and applies the
+     * remaining criteria to each candidate.
+     */
+    public List<MockEmployee> query(@NonNull Query query) {
+        final Stream<MockEmployee> candidates;
+        if (query.title() != null) {
+            candidates = resolve(byTitle.getOrDefault(key(query.title()), Set.of()).stream());
+        } else if (query.name() != null && query.name().length() >= GRAM) {
+            candidates = resolve(nameCandidates(key(query.name())));
+        } else if (query.minSalary() != null || query.maxSalary() != null) {
+            candidates = resolve(range(bySalary, query.minSalary(), query.maxSalary()));
+        } else if (query.minAge() != null || query.maxAge() != null) {
+            candidates = resolve(range(byAge, query.minAge(), query.maxAge()));
+        } else {
+            candidates = mockEmployeeStore.snapshot().employees().stream();
+        }
+        return candidates.filter(query).toList();
+    }
+
+    public Optional<Integer> maxSalary() {
+        return Optional.ofNullable(bySalary.isEmpty() ? null : bySalary.last()).map(Ranked::value);
+    }
+
+    /**
+     * Highest earners first, walking the salary skip list from its tail, so deleting a top earner needs no rescan.
+     */
+    public List<MockEmployee> topBySalary(int limit) {
+        return resolve(bySalary.descendingSet().stream().map(Ranked::id))
+                .limit(limit)
+                .toList();
+    }
+
+    private Stream<UUID> nameCandidates(String name) {
+        final var postings = grams(name)
+                .distinct()
+                .map(gram -> byNameGram.getOrDefault(gram, Set.of()))
+                .toList();
+        return postings.stream()
+                .min(Comparator.comparingInt(Set::size))
+                .map(Set::stream)
+                .orElseGet(Stream::empty);
+    }
+
+    private Stream<MockEmployee> resolve(Stream<UUID> ids) {
+        return ids.map(mockEmployeeStore::findById).flatMap(Optional::stream);
+    }
+
+    private static Stream<UUID> range(NavigableSet<Ranked> index, Integer min, Integer max) {
+        final var from = new Ranked(min == null ? Integer.MIN_VALUE : min, LOWEST_ID);
+        final var to = new Ranked(max == null ? Integer.MAX_VALUE : max, HIGHEST_ID);
+        if (BY_VALUE.compare(from, to) > 0) {
+            return Stream.empty();
+        }
+        return index.subSet(from, true, to, true).stream().map(Ranked::id);
+    }
+
+    private static void removePosting(Map<String, Set<UUID>> index, String key, UUID id) {
+        index.computeIfPresent(key, (ignored, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static Stream<String> grams(String value) {
+        return value.length() < GRAM
+                ? Stream.empty()
+                : Stream.iterate(0, start -> start + GRAM <= value.length(), start -> start + 1)
+                        .map(start -> value.substring(start, start + GRAM));
+    }
+
+    private static String key(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private record Ranked(int value, UUID id) {}
+
+    /**
+     * Conjunction of optional criteria; {@code null} leaves a criterion unconstrained. Ranges are inclusive, name is a
+     * case-insensitive substring and title a case-insensitive exact match.
+     */
+    public record Query(String name, Integer minSalary, Integer maxSalary, Integer minAge, Integer maxAge, String title)
+            implements Predicate<MockEmployee> {
+
+        @Override
+        public boolean test(MockEmployee employee) {
+            return (name == null
+                            || (employee.getName() != null
+                                    && key(employee.getName()).contains(key(name))))
+                    && within(employee.getSalary(), minSalary, maxSalary)
+                    && within(employee.getAge(), minAge, maxAge)
+                    && (title == null || title.equalsIgnoreCase(employee.getTitle()));
+        }
+
+        private static boolean within(Integer value, Integer min, Integer max) {
+            if (min == null && max == null) {
+                return true;
+            }
+            return value != null && (min == null || value >= min) && (max == null || value <= max);
+        }
+    }
+}
@@ -4,15 +4,18 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeAggregates;
+import com.reliaquest.server.model.MockEmployeeStats;
+import com.reliaquest.server.persistence.MockEmployeeJournal;
 import java.util.List;
-import java.util.Objects;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -22,37 +25,75 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore mockEmployeeStore;
+
+    private final MockEmployeeIndex mockEmployeeIndex;
+
+    private final MockEmployeeAggregator mockEmployeeAggregator;
+
+    private final FuzzyNameIndex fuzzyNameIndex;
+
+    private final MockEmployeeStatistics mockEmployeeStatistics;
+
+    private final ObjectProvider<MockEmployeeJournal> mockEmployeeJournal;
+
+    public MockEmployeeStore.Snapshot getSnapshot() {
+        return mockEmployeeStore.snapshot();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeStore.findById(uuid);
+    }
+
+    public List<MockEmployee> query(@NonNull MockEmployeeIndex.Query query) {
+        return mockEmployeeIndex.query(query);
+    }
+
+    public List<MockEmployee> fuzzySearch(@NonNull String name, int limit) {
+        return fuzzyNameIndex.search(name, limit);
+    }
+
+    public MockEmployeeAggregates aggregate(int top) {
+        return mockEmployeeAggregator.aggregate(top);
+    }
+
+    public MockEmployeeStats stats() {
+        return mockEmployeeStatistics.stats();
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
         final var mockEmployee = MockEmployee.from(
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
+                        faker.twitter().userName().toLowerCase(Locale.ROOT)),
                 input);
-        mockEmployees.add(mockEmployee);
+        mockEmployeeStore.add(mockEmployee);
+        awaitDurable();
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
-        }
-
-        return false;
+        final var mockEmployee = mockEmployeeStore.removeByName(input.getName());
+        mockEmployee.ifPresent(employee -> {
+            awaitDurable();
+            log.debug("Removed employee: {}", employee);
+        });
+        return mockEmployee.isPresent();
+    }
+
+    public Optional<MockEmployee> deleteById(@NonNull UUID uuid) {
+        final var mockEmployee = mockEmployeeStore.removeById(uuid);
+        mockEmployee.ifPresent(employee -> {
+            awaitDurable();
+            log.debug("Removed employee: {}", employee);
+        });
+        return mockEmployee;
+    }
+
+    /*
+     * Writes are acknowledged only once the journal, when enabled, has fsynced them.
+     */
+    private void awaitDurable() {
+        mockEmployeeJournal.ifAvailable(MockEmployeeJournal::awaitDurable);
     }
 }
@@ -0,0 +1,165 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeStats;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import lombok.NonNull;
+
+/**
+ * Salary and age distributions, overall and per title, kept in step with {@link MockEmployeeStore} through its
+ * listener hook.
+ *
+ * <p>The roster and each title keep a {@link QuantileSketch} and a {@link FixedHistogram} per measure, updated in
+ * O(log buckets) by every create and delete. Sketch and histogram sizes depend on the value range, never on the roster
+ * size. When the store publishes a version, the distributions of the titles it changed and the overall one are
+ * summarized and attached to that version's {@link MockEmployeeStore.Snapshot}, so statistics and roster always change
+ * together and every read is a volatile read.
+ */
+public class MockEmployeeStatistics implements MockEmployeeStore.Listener {
+
+    private static final int SALARY_BUCKET_WIDTH = 25_000;
+    private static final int SALARY_BUCKETS = 41;
+    private static final int AGE_BUCKET_WIDTH = 5;
+    private static final int AGE_BUCKETS = 21;
+    private static final double[] PERCENTILES = {0.5, 0.75, 0.9, 0.95, 0.99};
+
+    private final MockEmployeeStore mockEmployeeStore;
+    private final double relativeAccuracy;
+
+    /*
+     * Only touched under the store's write lock. Employees without a title count towards the overall distribution
+     * only.
+     */
+    private final Accumulator overall;
+    private final Map<String, Accumulator> byTitle = new HashMap<>();
+    private final TreeMap<String, MockEmployeeStats.Distribution> titles = new TreeMap<>();
+    private final Set<String> changedTitles = new HashSet<>();
+
+    public MockEmployeeStatistics(@NonNull MockEmployeeStore mockEmployeeStore, double relativeAccuracy) {
+        this.mockEmployeeStore = mockEmployeeStore;
+        this.relativeAccuracy = relativeAccuracy;
+        this.overall = new Accumulator(relativeAccuracy);
+    }
+
+    @Override
+    public void onAdded(MockEmployee employee) {
+        overall.update(employee, 1);
+        if (employee.getTitle() != null) {
+            byTitle.computeIfAbsent(employee.getTitle(), ignored -> new Accumulator(relativeAccuracy))
+                    .update(employee, 1);
+            changedTitles.add(employee.getTitle());
+        }
+    }
+
+    @Override
+    public void onRemoved(MockEmployee employee) {
+        overall.update(employee, -1);
+        final var accumulator = employee.getTitle() == null ? null : byTitle.get(employee.getTitle());
+        if (accumulator != null) {
+            accumulator.update(employee, -1);
+            if (accumulator.count == 0) {
+                byTitle.remove(employee.getTitle());
+            }
+            changedTitles.add(employee.getTitle());
+        }
+    }
+
+    @Override
+    public void onPublished(MockEmployeeStore.Snapshot snapshot) {
+        for (final var title : changedTitles) {
+            final var accumulator = byTitle.get(title);
+            if (accumulator == null) {
+                titles.remove(title);
+            } else {
+                titles.put(title, accumulator.distribution());
+            }
+        }
+        changedTitles.clear();
+        snapshot.attach(
+                MockEmployeeStats.class,
+                new MockEmployeeStats(
+                        snapshot.version(),
+                        relativeAccuracy,
+                        overall.distribution(),
+                        Collections.unmodifiableMap(new TreeMap<>(titles))));
+    }
+
+    public MockEmployeeStats stats() {
+        return mockEmployeeStore
+                .snapshot()
+                .view(MockEmployeeStats.class)
+                .orElseThrow(() -> new IllegalStateException("Statistics are not subscribed to the store"));
+    }
+
+    private static final class Accumulator {
+
+        private final Measure salary;
+        private final Measure age;
+        private long count;
+
+        Accumulator(double relativeAccuracy) {
+            salary = new Measure(relativeAccuracy, SALARY_BUCKET_WIDTH, SALARY_BUCKETS);
+            age = new Measure(relativeAccuracy, AGE_BUCKET_WIDTH, AGE_BUCKETS);
+        }
+
+        void update(MockEmployee employee, int delta) {
+            count += delta;
+            salary.update(employee.getSalary(), delta);
+            age.update(employee.getAge(), delta);
+        }
+
+        MockEmployeeStats.Distribution distribution() {
+            return new MockEmployeeStats.Distribution(count, salary.summary(), age.summary());
+        }
+    }
+
+    private static final class Measure {
+
+        private final QuantileSketch sketch;
+        private final FixedHistogram histogram;
+        private long sum;
+
+        Measure(double relativeAccuracy, int bucketWidth, int buckets) {
+            sketch = new QuantileSketch(relativeAccuracy);
+            histogram = new FixedHistogram(bucketWidth, buckets);
+        }
+
+        void update(Integer value, int delta) {
+            if (value == null) {
+                return;
+            }
+            sum += (long) delta * value;
+            if (delta > 0) {
+                sketch.add(value);
+                histogram.add(value);
+            } else {
+                sketch.remove(value);
+                histogram.remove(value);
+            }
+        }
+
+        MockEmployeeStats.Summary summary() {
+            final var count = sketch.count();
+            if (count == 0) {
+                return new MockEmployeeStats.Summary(0, null, null, null, Map.of(), histogram.buckets());
+            }
+            final var percentiles = new LinkedHashMap<String, Double>();
+            for (final var percentile : PERCENTILES) {
+                percentiles.put("p" + Math.round(percentile * 100), sketch.quantile(percentile));
+            }
+            return new MockEmployeeStats.Summary(
+                    count,
+                    (double) sum / count,
+                    sketch.quantile(0),
+                    sketch.quantile(1),
+                    percentiles,
+                    histogram.buckets());
+        }
+    }
+}
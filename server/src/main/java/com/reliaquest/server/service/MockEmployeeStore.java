@@ -0,0 +1,460 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.NonNull;
+
+/**
+ * Concurrent, hash-indexed roster backing {@link MockEmployeeService}.
+ *
+ * <p>Reads never lock: lookups by id and by case-insensitive name are single hash probes, and the roster as a whole is
+ * read through immutable, versioned {@link Snapshot}s. Writers serialize on an internal lock, update the indexes and
+ * publish a new snapshot with a single volatile write, so a reader always sees exactly one version.
+ *
+ * <p>A snapshot's entries are held in chunks of at most {@link #CHUNK} entries. A write copies only the chunk it
+ * touches and the chunk table, sharing every other chunk with the previous version, so a single create or delete costs
+ * O(CHUNK + size / CHUNK) rather than a copy of the whole roster.
+ *
+ * <p>{@link Listener}s are notified of every change while the write lock is still held, in the order changes were
+ * applied, which lets derived state such as journals and indexes stay in step with the roster. They run before the
+ * version they produce is published, and may {@link Snapshot#attach attach} views derived from it, such as aggregates,
+ * which then become visible with the same volatile write as the roster itself. A listener that throws aborts the
+ * write: the indexes are put back as they were, so lookups keep agreeing with the version that stays published, and the
+ * failure reaches the writer.
+ */
+public class MockEmployeeStore {
+
+    private static final Comparator<Entry> BY_SEQUENCE = Comparator.comparingLong(Entry::sequence);
+    private static final int CHUNK = 1024;
+
+    private final Map<UUID, Entry> byId = new ConcurrentHashMap<>();
+    /*
+     * Name lists are replaced on write, never mutated, so readers see either the old or the new list.
+     */
+    private final Map<String, List<Entry>> byName = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile Snapshot snapshot = new Snapshot(0, Entries.EMPTY, Map.of());
+    private long nextSequence;
+
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        return Optional.ofNullable(byId.get(id)).map(Entry::employee);
+    }
+
+    /*
+     * Names are not unique; like the original list scan, the earliest inserted match wins.
+     */
+    public Optional<MockEmployee> findByName(@NonNull String name) {
+        final var entries = byName.get(nameKey(name));
+        return entries == null ? Optional.empty() : Optional.of(entries.get(0).employee());
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    public int size() {
+        return snapshot.size();
+    }
+
+    public void addListener(@NonNull Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Feeds the current roster to {@code listener} as additions and registers it, with no write able to slip in
+     * between. The current version is then published again, unchanged, so the listener can attach its views to it.
+     */
+    public void subscribe(@NonNull Listener listener) {
+        synchronized (writeLock) {
+            snapshot.employees().forEach(listener::onAdded);
+            final var republished = new Snapshot(snapshot.version, snapshot.entries, snapshot.views);
+            listener.onPublished(republished);
+            publish(republished);
+            listeners.add(listener);
+        }
+    }
+
+    /**
+     * Runs {@code action} while holding the write lock and returns the snapshot it ran against, so the action happens
+     * exactly between two published versions.
+     */
+    public Snapshot checkpoint(@NonNull Runnable action) {
+        synchronized (writeLock) {
+            action.run();
+            return snapshot;
+        }
+    }
+
+    public void add(@NonNull MockEmployee employee) {
+        addAll(List.of(employee));
+    }
+
+    public void addAll(@NonNull Collection<MockEmployee> employees) {
+        synchronized (writeLock) {
+            // Checked up front, so a bad batch is rejected before the indexes change
+            employees.forEach(employee -> Objects.requireNonNull(employee.getId(), "Employee id must not be null"));
+            var entries = snapshot.entries;
+            final var added = new Entry[employees.size()];
+            final var changes = new ArrayList<Change>();
+            final var notify = !listeners.isEmpty();
+            var count = 0;
+            for (final var employee : employees) {
+                final var previous = byId.get(employee.getId());
+                if (previous != null) {
+                    unlink(previous);
+                    entries = entries.without(previous);
+                    if (notify) {
+                        changes.add(new Change(previous, false));
+                    }
+                }
+                final var entry = new Entry(nextSequence++, employee);
+                link(entry);
+                added[count++] = entry;
+                if (notify) {
+                    changes.add(new Change(entry, true));
+                }
+            }
+            // An id repeated within one batch supersedes its earlier entry
+            final var live = Arrays.stream(added, 0, count)
+                    .filter(entry -> byId.get(entry.employee().getId()) == entry)
+                    .toArray(Entry[]::new);
+            final var next = snapshot.next(entries.append(live));
+            notifyListeners(changes, next);
+            publish(next);
+        }
+    }
+
+    public Optional<MockEmployee> removeById(@NonNull UUID id) {
+        synchronized (writeLock) {
+            return remove(byId.get(id));
+        }
+    }
+
+    public Optional<MockEmployee> removeByName(@NonNull String name) {
+        synchronized (writeLock) {
+            final var entries = byName.get(nameKey(name));
+            return remove(entries == null ? null : entries.get(0));
+        }
+    }
+
+    private Optional<MockEmployee> remove(Entry entry) {
+        if (entry == null) {
+            return Optional.empty();
+        }
+        unlink(entry);
+        final var next = snapshot.next(snapshot.entries.without(entry));
+        notifyListeners(List.of(new Change(entry, false)), next);
+        publish(next);
+        return Optional.of(entry.employee());
+    }
+
+    /*
+     * Listeners may look employees up while they run, so the indexes already hold the write; should one throw, the
+     * changes are undone in reverse order and the next version is never published.
+     */
+    private void notifyListeners(List<Change> changes, Snapshot next) {
+        try {
+            for (final var change : changes) {
+                final var employee = change.entry().employee();
+                if (change.added()) {
+                    listeners.forEach(listener -> listener.onAdded(employee));
+                } else {
+                    listeners.forEach(listener -> listener.onRemoved(employee));
+                }
+            }
+            listeners.forEach(listener -> listener.onPublished(next));
+        } catch (RuntimeException | Error e) {
+            for (var i = changes.size() - 1; i >= 0; i--) {
+                final var change = changes.get(i);
+                if (change.added()) {
+                    unlink(change.entry());
+                } else {
+                    link(change.entry());
+                }
+            }
+            throw e;
+        }
+    }
+
+    private void publish(Snapshot next) {
+        next.published = true;
+        snapshot = next;
+    }
+
+    private void link(Entry entry) {
+        byId.put(entry.employee().getId(), entry);
+        if (entry.employee().getName() != null) {
+            byName.compute(nameKey(entry.employee().getName()), (key, entries) -> {
+                final var updated = entries == null ? new ArrayList<Entry>(1) : new ArrayList<>(entries);
+                // In insertion order, also when an undone removal links an older entry again
+                final var index = Collections.binarySearch(updated, entry, BY_SEQUENCE);
+                updated.add(index < 0 ? -index - 1 : index, entry);
+                return List.copyOf(updated);
+            });
+        }
+    }
+
+    private void unlink(Entry entry) {
+        byId.remove(entry.employee().getId(), entry);
+        if (entry.employee().getName() != null) {
+            byName.computeIfPresent(nameKey(entry.employee().getName()), (key, entries) -> {
+                final var updated = new ArrayList<>(entries);
+                updated.removeIf(candidate -> candidate == entry);
+                return updated.isEmpty() ? null : List.copyOf(updated);
+            });
+        }
+    }
+
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(long sequence, MockEmployee employee) {}
+
+    private record Change(Entry entry, boolean added) {}
+
+    /**
+     * Entries in sequence order, split into non-empty chunks of at most {@link #CHUNK} entries. Chunks are never
+     * modified once built, so versions share every chunk a write did not touch.
+     */
+    private static final class Entries {
+
+        private static final Entries EMPTY = new Entries(new Entry[0][]);
+
+        private final Entry[][] chunks;
+        /*
+         * offsets[i] is the number of entries before chunks[i]; the last element is the size.
+         */
+        private final int[] offsets;
+
+        private Entries(Entry[][] chunks) {
+            this.chunks = chunks;
+            this.offsets = new int[chunks.length + 1];
+            for (var i = 0; i < chunks.length; i++) {
+                offsets[i + 1] = offsets[i] + chunks[i].length;
+            }
+        }
+
+        int size() {
+            return offsets[chunks.length];
+        }
+
+        Entry get(int index) {
+            Objects.checkIndex(index, size());
+            final var found = Arrays.binarySearch(offsets, index);
+            final var chunk = found >= 0 ? found : -found - 2;
+            return chunks[chunk][index - offsets[chunk]];
+        }
+
+        /*
+         * Tops up the last chunk and starts new ones for the rest, copying the last chunk and the chunk table only.
+         */
+        Entries append(Entry[] added) {
+            if (added.length == 0) {
+                return this;
+            }
+            final var updated = new ArrayList<Entry[]>(chunks.length + added.length / CHUNK + 1);
+            updated.addAll(Arrays.asList(chunks));
+            var next = 0;
+            if (!updated.isEmpty()) {
+                final var last = updated.get(updated.size() - 1);
+                final var fill = Math.min(CHUNK - last.length, added.length);
+                if (fill > 0) {
+                    final var filled = Arrays.copyOf(last, last.length + fill);
+                    System.arraycopy(added, 0, filled, last.length, fill);
+                    updated.set(updated.size() - 1, filled);
+                    next = fill;
+                }
+            }
+            while (next < added.length) {
+                final var length = Math.min(CHUNK, added.length - next);
+                updated.add(Arrays.copyOfRange(added, next, next + length));
+                next += length;
+            }
+            return new Entries(updated.toArray(Entry[][]::new));
+        }
+
+        /*
+         * The chunk holding the entry is found by binary search on first sequences and rebuilt without it. An emptied
+         * chunk is dropped, and one shrunk below a quarter is merged into a neighbour with room, so deletes cannot
+         * leave the table full of near-empty chunks.
+         */
+        Entries without(Entry entry) {
+            final var chunk = chunkOf(entry.sequence());
+            if (chunk < 0) {
+                return this;
+            }
+            final var entries = chunks[chunk];
+            final var index = Arrays.binarySearch(entries, entry, BY_SEQUENCE);
+            if (index < 0) {
+                return this;
+            }
+            final var remaining = new Entry[entries.length - 1];
+            System.arraycopy(entries, 0, remaining, 0, index);
+            System.arraycopy(entries, index + 1, remaining, index, entries.length - index - 1);
+
+            final var updated = new ArrayList<>(Arrays.asList(chunks));
+            if (remaining.length == 0) {
+                updated.remove(chunk);
+            } else if (remaining.length < CHUNK / 4 && fits(chunk + 1, remaining.length)) {
+                updated.set(chunk, concat(remaining, chunks[chunk + 1]));
+                updated.remove(chunk + 1);
+            } else if (remaining.length < CHUNK / 4 && fits(chunk - 1, remaining.length)) {
+                updated.set(chunk - 1, concat(chunks[chunk - 1], remaining));
+                updated.remove(chunk);
+            } else {
+                updated.set(chunk, remaining);
+            }
+            return new Entries(updated.toArray(Entry[][]::new));
+        }
+
+        private boolean fits(int neighbour, int length) {
+            return neighbour >= 0 && neighbour < chunks.length && chunks[neighbour].length + length <= CHUNK;
+        }
+
+        /*
+         * The last chunk whose first entry does not come after the sequence, or -1 when there is none.
+         */
+        private int chunkOf(long sequence) {
+            var low = 0;
+            var high = chunks.length - 1;
+            var found = -1;
+            while (low <= high) {
+                final var mid = (low + high) >>> 1;
+                if (chunks[mid][0].sequence() <= sequence) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return found;
+        }
+
+        private static Entry[] concat(Entry[] first, Entry[] second) {
+            final var joined = Arrays.copyOf(first, first.length + second.length);
+            System.arraycopy(second, 0, joined, first.length, second.length);
+            return joined;
+        }
+    }
+
+    /**
+     * Receives roster changes under the store's write lock. Implementations must be quick and must not call back into
+     * the store's write methods.
+     */
+    public interface Listener {
+
+        default void onAdded(MockEmployee employee) {}
+
+        default void onRemoved(MockEmployee employee) {}
+
+        /**
+         * Called once per version, after every listener has seen all of its changes and before the version is
+         * published, so state derived from the whole write can be materialized for exactly that version and attached
+         * to it.
+         */
+        default void onPublished(Snapshot snapshot) {}
+    }
+
+    /**
+     * Immutable view of the roster at one version, with the views listeners derived from it. Versions increase by one
+     * with every published write.
+     */
+    public static final class Snapshot {
+
+        private final long version;
+        private final Entries entries;
+        private final List<MockEmployee> employees;
+        /*
+         * Only written under the write lock before the snapshot is published; read-only from then on.
+         */
+        private final Map<Class<?>, Object> views;
+        private boolean published;
+
+        private Snapshot(long version, Entries entries, Map<Class<?>, Object> views) {
+            this.version = version;
+            this.entries = entries;
+            this.employees = new EmployeeView(entries);
+            this.views = new HashMap<>(views);
+        }
+
+        private Snapshot next(Entries entries) {
+            return new Snapshot(version + 1, entries, Map.of());
+        }
+
+        /**
+         * Attaches a view derived from this version. Only possible from {@link Listener#onPublished}, while the
+         * version is still being published.
+         */
+        public <T> void attach(@NonNull Class<T> type, @NonNull T view) {
+            if (published) {
+                throw new IllegalStateException("Snapshot " + version + " is already published");
+            }
+            views.put(type, view);
+        }
+
+        public <T> Optional<T> view(@NonNull Class<T> type) {
+            return Optional.ofNullable(type.cast(views.get(type)));
+        }
+
+        public long version() {
+            return version;
+        }
+
+        public List<MockEmployee> employees() {
+            return employees;
+        }
+
+        public int size() {
+            return entries.size();
+        }
+    }
+
+    private static final class EmployeeView extends AbstractList<MockEmployee> implements RandomAccess {
+
+        private final Entries entries;
+
+        private EmployeeView(Entries entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public MockEmployee get(int index) {
+            return entries.get(index).employee();
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        /*
+         * Walks the chunks directly rather than locating each index.
+         */
+        @Override
+        public Iterator<MockEmployee> iterator() {
+            return Arrays.stream(entries.chunks)
+                    .flatMap(Arrays::stream)
+                    .map(Entry::employee)
+                    .iterator();
+        }
+    }
+}
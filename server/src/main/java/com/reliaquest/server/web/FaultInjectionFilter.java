@@ -0,0 +1,241 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.model.FaultProfile;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.coyote.CloseNowException;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Makes the mock behave like a struggling upstream according to the active {@link FaultProfile}: added latency,
+ * injected 5xx responses, connections dropped mid-response, and bandwidth-limited or slowly dripped bodies.
+ *
+ * <p>This is a servlet filter rather than an interceptor because shaping a body means wrapping the response. Endpoints
+ * are still named by controller method, the same way {@link RequestLimitInterceptor} names them, by asking the
+ * handler mapping. The admin endpoint is never faulted.
+ */
+@RequiredArgsConstructor
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    private static final byte[] CUT_OFF_BODY = "{\"data\":[".getBytes(StandardCharsets.UTF_8);
+    private static final int CUT_OFF_CONTENT_LENGTH = 64 * 1024;
+    /*
+     * Bandwidth without an explicit drip is paced in twentieths of a second worth of bytes.
+     */
+    private static final int PACING_SLICES_PER_SECOND = 20;
+
+    @NonNull private final FaultInjector faultInjector;
+
+    @NonNull private final HandlerMapping handlerMapping;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return faultInjector.profile() == FaultProfile.NONE
+                || request.getRequestURI().startsWith(FaultInjector.ADMIN_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final var profile = faultInjector.profile();
+        final var random = ThreadLocalRandom.current();
+
+        final var latency = profile.latencyOf(operation(request));
+        if (latency != null) {
+            sleep(latency.sampleMillis(random));
+        }
+        if (profile.errorRate() > 0 && random.nextDouble() < profile.errorRate()) {
+            response.sendError(profile.errorStatus(), "Injected fault");
+            return;
+        }
+        if (profile.resetRate() > 0 && random.nextDouble() < profile.resetRate()) {
+            cutOff(response);
+            return;
+        }
+        if (!profile.shapesBody()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        final var shaped = new ShapedResponse(response, profile);
+        chain.doFilter(request, shaped);
+        shaped.flushWriter();
+    }
+
+    private String operation(HttpServletRequest request) {
+        try {
+            final var chain = handlerMapping.getHandler(request);
+            return chain != null && chain.getHandler() instanceof HandlerMethod method
+                    ? method.getMethod().getName()
+                    : "other";
+        } catch (Exception e) {
+            return "other";
+        }
+    }
+
+    /*
+     * Commits a response promising a body far longer than the one sent, then aborts it. CloseNowException is Tomcat's
+     * own signal for an unrecoverable error on a committed response: it closes the connection under HTTP/1.1 and
+     * resets just the stream under HTTP/2, where Connection: close is forbidden. Either way the client fails mid-read
+     * the way it would on a reset.
+     */
+    private static void cutOff(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(CUT_OFF_CONTENT_LENGTH);
+        final var body = response.getOutputStream();
+        body.write(CUT_OFF_BODY);
+        body.flush();
+        throw new CloseNowException("Injected reset");
+    }
+
+    private static void sleep(long millis) throws IOException {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while injecting a fault");
+        }
+    }
+
+    /**
+     * Shapes the body whichever way it is written. A writer encodes into the shaped stream, and like the container's
+     * own it buffers, so whatever it still holds is flushed once the chain returns.
+     */
+    private static final class ShapedResponse extends HttpServletResponseWrapper {
+
+        private final FaultProfile profile;
+        private ShapedOutputStream outputStream;
+        private PrintWriter writer;
+
+        private ShapedResponse(HttpServletResponse response, FaultProfile profile) {
+            super(response);
+            this.profile = profile;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() has already been called for this response");
+            }
+            return shapedOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                if (outputStream != null) {
+                    throw new IllegalStateException("getOutputStream() has already been called for this response");
+                }
+                writer = new PrintWriter(new OutputStreamWriter(shapedOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            flushWriter();
+            super.flushBuffer();
+        }
+
+        private void flushWriter() {
+            if (writer != null) {
+                writer.flush();
+            }
+        }
+
+        private ShapedOutputStream shapedOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new ShapedOutputStream(super.getOutputStream(), profile);
+            }
+            return outputStream;
+        }
+    }
+
+    /**
+     * Writes through in chunks, flushing each one and pausing after it so that the drip interval and the bandwidth
+     * cap both hold.
+     */
+    private static final class ShapedOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final FaultProfile profile;
+        private final int chunkBytes;
+        private final long started = System.nanoTime();
+        private long written;
+
+        private ShapedOutputStream(ServletOutputStream delegate, FaultProfile profile) {
+            this.delegate = delegate;
+            this.profile = profile;
+            final var pacingSlice = Math.min(Integer.MAX_VALUE, profile.bytesPerSecond() / PACING_SLICES_PER_SECOND);
+            this.chunkBytes = profile.dripChunkBytes() > 0 ? profile.dripChunkBytes() : (int) Math.max(1, pacingSlice);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            var position = offset;
+            var remaining = length;
+            while (remaining > 0) {
+                final var chunk = Math.min(remaining, chunkBytes);
+                delegate.write(bytes, position, chunk);
+                delegate.flush();
+                position += chunk;
+                remaining -= chunk;
+                written += chunk;
+                pace();
+            }
+        }
+
+        private void pace() throws IOException {
+            sleep(profile.dripIntervalMillis());
+            if (profile.bytesPerSecond() > 0) {
+                final var dueMillis = written * 1000 / profile.bytesPerSecond();
+                final var elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+                sleep(dueMillis - elapsedMillis);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
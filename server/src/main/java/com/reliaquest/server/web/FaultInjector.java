@@ -0,0 +1,32 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.model.FaultProfile;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the active {@link FaultProfile}. It starts out as {@link FaultProfile#NONE}, which lets
+ * {@link FaultInjectionFilter} step aside entirely, and is swapped atomically so a request sees one profile throughout.
+ */
+@Slf4j
+@Component
+public class FaultInjector {
+
+    public static final String ADMIN_PATH = "/admin/faults";
+
+    private volatile FaultProfile profile = FaultProfile.NONE;
+
+    public FaultProfile profile() {
+        return profile;
+    }
+
+    public void update(@NonNull FaultProfile profile) {
+        this.profile = profile;
+        log.info("Fault profile set to {}", profile);
+    }
+
+    public void reset() {
+        update(FaultProfile.NONE);
+    }
+}
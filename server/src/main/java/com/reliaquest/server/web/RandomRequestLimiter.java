@@ -1,16 +1,12 @@
 package com.reliaquest.server.web;
 
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.random.RandomGenerator;
 import lombok.Getter;
-import org.springframework.http.HttpStatus;
-import org.springframework.web.servlet.HandlerInterceptor;
 
-public class RandomRequestLimitInterceptor implements HandlerInterceptor {
+public class RandomRequestLimiter implements RequestLimiter {
 
     private static final int REQUEST_LIMIT = RandomGenerator.getDefault().nextInt(5, 10);
     private static final Duration REQUEST_BACKOFF_DURATION =
@@ -19,13 +15,14 @@ public class RandomRequestLimitInterceptor implements HandlerInterceptor {
     private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
 
     @Override
-    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    public long tryAcquire(String clientId, String operation) {
         if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
             if (Instant.now()
                     .minus(REQUEST_BACKOFF_DURATION)
                     .isBefore(requestLimit.get().getLastRequested())) {
-                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-                return false;
+                final var retryAfter = Duration.between(
+                        Instant.now(), requestLimit.get().getLastRequested().plus(REQUEST_BACKOFF_DURATION));
+                return Math.max(1, retryAfter.toNanos());
             }
             if (Instant.now()
                     .minus(REQUEST_BACKOFF_DURATION)
@@ -37,7 +34,7 @@ public class RandomRequestLimitInterceptor implements HandlerInterceptor {
                     currentRequestLimit -> new RequestLimit(currentRequestLimit.count() + 1, Instant.now()));
         }
 
-        return true;
+        return 0;
     }
 
     private record RequestLimit(@Getter int count, @Getter Instant lastRequested) {
@@ -0,0 +1,36 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Applies a {@link RequestLimiter} to the servlet stack, answering rejected requests with 429 and {@code Retry-After}.
+ */
+@RequiredArgsConstructor
+public class RequestLimitInterceptor implements HandlerInterceptor {
+
+    @NonNull private final RequestLimiter requestLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final var operation = handler instanceof HandlerMethod method ? method.getMethod().getName() : "other";
+        final var waitNanos = requestLimiter.tryAcquire(clientId(request), operation);
+        if (waitNanos == 0) {
+            return true;
+        }
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RequestLimiter.retryAfterSeconds(waitNanos)));
+        return false;
+    }
+
+    private static String clientId(HttpServletRequest request) {
+        final var clientId = request.getHeader(RequestLimiter.CLIENT_ID_HEADER);
+        return clientId == null || clientId.isBlank() ? request.getRemoteAddr() : clientId;
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.server.web;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Applies a {@link RequestLimiter} to the reactive stack, answering rejected requests with 429 and
+ * {@code Retry-After}. Filters run before handler mapping, so the handler is looked up here to name the operation
+ * the same way {@link RequestLimitInterceptor} does.
+ */
+@RequiredArgsConstructor
+public class RequestLimitWebFilter implements WebFilter {
+
+    @NonNull private final RequestLimiter requestLimiter;
+
+    @NonNull private final HandlerMapping handlerMapping;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (requestLimiter == RequestLimiter.UNLIMITED
+                || exchange.getRequest().getPath().value().startsWith(FaultInjector.ADMIN_PATH)) {
+            return chain.filter(exchange);
+        }
+        return handlerMapping
+                .getHandler(exchange)
+                .map(handler -> handler instanceof HandlerMethod method ? method.getMethod().getName() : "other")
+                .defaultIfEmpty("other")
+                .flatMap(operation -> {
+                    final var waitNanos = requestLimiter.tryAcquire(clientId(exchange), operation);
+                    if (waitNanos == 0) {
+                        return chain.filter(exchange);
+                    }
+                    final var response = exchange.getResponse();
+                    response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+                    response.getHeaders()
+                            .set(HttpHeaders.RETRY_AFTER, String.valueOf(RequestLimiter.retryAfterSeconds(waitNanos)));
+                    return response.setComplete();
+                });
+    }
+
+    private static String clientId(ServerWebExchange exchange) {
+        final var clientId = exchange.getRequest().getHeaders().getFirst(RequestLimiter.CLIENT_ID_HEADER);
+        if (clientId != null && !clientId.isBlank()) {
+            return clientId;
+        }
+        final var remoteAddress = exchange.getRequest().getRemoteAddress();
+        return remoteAddress == null ? "unknown" : remoteAddress.getHostString();
+    }
+}
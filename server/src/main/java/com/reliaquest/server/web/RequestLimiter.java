@@ -0,0 +1,29 @@
+package com.reliaquest.server.web;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides whether a request may proceed, independent of the web runtime; {@link RequestLimitInterceptor} applies it to
+ * the servlet stack and {@link RequestLimitWebFilter} to the reactive one.
+ *
+ * <p>Clients are told apart by the {@value #CLIENT_ID_HEADER} header, falling back to the remote address, and
+ * operations by controller method name.
+ */
+public interface RequestLimiter {
+
+    String CLIENT_ID_HEADER = "X-Client-Id";
+
+    RequestLimiter UNLIMITED = (clientId, operation) -> 0;
+
+    /**
+     * @return {@code 0} when the request is admitted, otherwise the nanoseconds until a retry could be admitted
+     */
+    long tryAcquire(String clientId, String operation);
+
+    /*
+     * Retry-After has whole-second resolution, so round up to never invite a retry that is bound to fail.
+     */
+    static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
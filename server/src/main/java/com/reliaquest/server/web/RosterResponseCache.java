@@ -0,0 +1,84 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the list endpoint's response for the latest roster version, in each requested {@link WireFormat} and both
+ * plain and gzip-compressed, so that repeated reads of an unchanged roster write prepared bytes instead of running
+ * Jackson and the compressor again.
+ *
+ * <p>Only the newest version is kept, and a reader holding an older snapshot is served the newer body. Each format is
+ * encoded on first request; concurrent readers of the same format wait for that encoding rather than duplicating it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RosterResponseCache {
+
+    @NonNull private final ObjectMapper objectMapper;
+
+    @NonNull private final MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter;
+
+    private final Object rosterLock = new Object();
+    private volatile Roster current;
+
+    public Body get(@NonNull MockEmployeeStore.Snapshot snapshot, @NonNull WireFormat format) {
+        var roster = current;
+        if (roster == null || roster.snapshot().version() < snapshot.version()) {
+            synchronized (rosterLock) {
+                roster = current;
+                if (roster == null || roster.snapshot().version() < snapshot.version()) {
+                    roster = new Roster(snapshot, new ConcurrentHashMap<>());
+                    current = roster;
+                }
+            }
+        }
+        final var snapshotToEncode = roster.snapshot();
+        return roster.bodies().computeIfAbsent(format, ignored -> encode(snapshotToEncode, format));
+    }
+
+    private Body encode(MockEmployeeStore.Snapshot snapshot, WireFormat format) {
+        try {
+            final var started = System.nanoTime();
+            final var encoded = mapper(format).writeValueAsBytes(Response.handledWith(snapshot.employees()));
+            final var compressed = new ByteArrayOutputStream(Math.max(encoded.length / 4, 64));
+            try (final var gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(encoded);
+            }
+            log.debug(
+                    "Encoded roster version {} as {} ({} bytes, {} gzipped) in {} ms",
+                    snapshot.version(),
+                    format,
+                    encoded.length,
+                    compressed.size(),
+                    (System.nanoTime() - started) / 1_000_000);
+            return new Body(snapshot.version(), format, encoded, compressed.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode roster version " + snapshot.version(), e);
+        }
+    }
+
+    private ObjectMapper mapper(WireFormat format) {
+        return switch (format) {
+            case JSON -> objectMapper;
+            case SMILE -> smileHttpMessageConverter.getObjectMapper();
+        };
+    }
+
+    private record Roster(MockEmployeeStore.Snapshot snapshot, Map<WireFormat, Body> bodies) {}
+
+    public record Body(long version, WireFormat format, byte[] plain, byte[] gzip) {}
+}
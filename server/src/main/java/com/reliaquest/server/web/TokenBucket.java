@@ -0,0 +1,49 @@
+package com.reliaquest.server.web;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket. The token count and last refill time form one immutable state swapped by CAS, so refill and
+ * consumption are a single atomic step without any lock. Tokens are tracked in millionths to keep fractional refill
+ * exact over short intervals.
+ */
+public class TokenBucket {
+
+    private static final long SCALE = 1_000_000L;
+
+    private final long capacity;
+    private final double refillPerNano;
+    private final LongSupplier nanoClock;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(int capacity, double refillPerSecond, LongSupplier nanoClock) {
+        this.capacity = capacity * SCALE;
+        this.refillPerNano = refillPerSecond * SCALE / 1_000_000_000d;
+        this.nanoClock = nanoClock;
+        this.state = new AtomicReference<>(new State(this.capacity, nanoClock.getAsLong()));
+    }
+
+    /**
+     * Takes {@code cost} tokens if available. A cost above capacity drains a full bucket instead of never succeeding.
+     *
+     * @return {@code 0} when acquired, otherwise the nanoseconds until enough tokens will have refilled
+     */
+    public long tryAcquire(int cost) {
+        final var needed = Math.min(cost * SCALE, capacity);
+        while (true) {
+            final var current = state.get();
+            final var now = nanoClock.getAsLong();
+            final var refilled = (long) (Math.max(0, now - current.updatedAt()) * refillPerNano);
+            final var available = Math.min(capacity, current.tokens() + refilled);
+            if (available < needed) {
+                return (long) Math.ceil((needed - available) / refillPerNano);
+            }
+            if (state.compareAndSet(current, new State(available - needed, now))) {
+                return 0;
+            }
+        }
+    }
+
+    private record State(long tokens, long updatedAt) {}
+}
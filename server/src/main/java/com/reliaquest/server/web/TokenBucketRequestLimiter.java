@@ -0,0 +1,67 @@
+package com.reliaquest.server.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.server.config.RateLimitProperties;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import lombok.NonNull;
+
+/**
+ * Deterministic replacement for {@link RandomRequestLimiter}: every bucket refills at a configured rate, each operation
+ * costs a configured number of tokens and a rejected request is told how long to wait.
+ *
+ * <p>Buckets are keyed by the client-supplied {@code X-Client-Id}, so they are held in a bounded cache rather than a
+ * plain map. A bucket idle for as long as a full refill takes is dropped: it would be full again, exactly like the
+ * fresh one that replaces it. Beyond {@code max-buckets}, the least used are dropped early and those clients start
+ * again from a full bucket.
+ */
+public class TokenBucketRequestLimiter implements RequestLimiter {
+
+    private final RateLimitProperties properties;
+    private final LongSupplier nanoClock;
+    private final Cache<String, TokenBucket> buckets;
+
+    public TokenBucketRequestLimiter(@NonNull RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    TokenBucketRequestLimiter(@NonNull RateLimitProperties properties, @NonNull LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxBuckets())
+                .expireAfterAccess(fullRefill(properties))
+                .ticker(nanoClock::getAsLong)
+                .build();
+    }
+
+    @Override
+    public long tryAcquire(String clientId, String operation) {
+        final var bucket = buckets.get(
+                bucketKey(clientId, operation),
+                ignored -> new TokenBucket(properties.capacity(), properties.refillPerSecond(), nanoClock));
+        return bucket.tryAcquire(properties.costOf(operation));
+    }
+
+    /*
+     * Runs pending evictions first, so the count is exact.
+     */
+    long bucketCount() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    private String bucketKey(String clientId, String operation) {
+        return switch (properties.scope()) {
+            case CLIENT -> clientId;
+            case ROUTE -> operation;
+            case CLIENT_ROUTE -> clientId + '|' + operation;
+        };
+    }
+
+    private static Duration fullRefill(RateLimitProperties properties) {
+        final var seconds = properties.capacity() / properties.refillPerSecond();
+        return Duration.ofNanos((long) Math.ceil(seconds * 1_000_000_000d));
+    }
+}
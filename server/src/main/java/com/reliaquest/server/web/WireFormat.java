@@ -0,0 +1,52 @@
+package com.reliaquest.server.web;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * Encodings the mock server can answer with. JSON stays the default; Smile is Jackson's binary JSON, carrying the same
+ * documents in fewer bytes and parsing faster, and is chosen only when a client asks for it.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum WireFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    SMILE(new MediaType("application", "x-jackson-smile"));
+
+    private final MediaType mediaType;
+
+    /**
+     * Picks the format with the highest quality in {@code accept}, earlier entries winning ties. Missing, malformed or
+     * unsatisfiable headers fall back to JSON rather than 406.
+     */
+    public static WireFormat negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        final List<MediaType> acceptable;
+        try {
+            acceptable = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        var best = JSON;
+        var bestQuality = 0.0;
+        for (final var type : acceptable) {
+            final var quality = type.getQualityValue();
+            if (quality <= bestQuality) {
+                continue;
+            }
+            for (final var format : values()) {
+                if (type.includes(format.mediaType)) {
+                    best = format;
+                    bestQuality = quality;
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+}
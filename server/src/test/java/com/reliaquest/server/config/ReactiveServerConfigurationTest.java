@@ -0,0 +1,30 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Context tests for the reactive profile
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+@DisplayName("ReactiveServerConfiguration Context Tests")
+class ReactiveServerConfigurationTest {
+
+    @Autowired
+    private ReactiveWebServerApplicationContext context;
+
+    @Test
+    @DisplayName("Should serve the reactive profile from Netty even with Tomcat on the classpath")
+    void testReactiveProfile_RunsOnNetty() {
+        // Then
+        assertInstanceOf(NettyWebServer.class, context.getWebServer());
+    }
+}
@@ -0,0 +1,104 @@
+package com.reliaquest.server.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for FaultProfile
+ */
+@DisplayName("FaultProfile Unit Tests")
+class FaultProfileTest {
+
+    private static final int SAMPLES = 20_000;
+
+    private final Random random = new Random(42);
+
+    @Test
+    @DisplayName("Should always wait the fixed latency, the default distribution")
+    void testSampleMillis_Fixed() {
+        // Given
+        final var latency = new FaultProfile.Latency(null, 250, 0, 0, 0, 0);
+
+        // When
+        final var samples = sample(latency);
+
+        // Then
+        assertEquals(FaultProfile.Latency.Distribution.FIXED, latency.distribution());
+        assertTrue(Arrays.stream(samples).allMatch(millis -> millis == 250));
+    }
+
+    @Test
+    @DisplayName("Should spread uniform latency evenly over both bounds inclusive")
+    void testSampleMillis_Uniform() {
+        // Given
+        final var latency = new FaultProfile.Latency(FaultProfile.Latency.Distribution.UNIFORM, 100, 200, 0, 0, 0);
+
+        // When
+        final var samples = sample(latency);
+
+        // Then
+        assertEquals(100, Arrays.stream(samples).min().orElseThrow());
+        assertEquals(200, Arrays.stream(samples).max().orElseThrow());
+        assertEquals(150, Arrays.stream(samples).average().orElseThrow(), 2);
+    }
+
+    @Test
+    @DisplayName("Should center log-normal latency on its median with the configured spread")
+    void testSampleMillis_LogNormal() {
+        // Given
+        final var latency = new FaultProfile.Latency(FaultProfile.Latency.Distribution.LOG_NORMAL, 100, 0, 0.5, 0, 0);
+
+        // When
+        final var samples = sample(latency);
+        Arrays.sort(samples);
+
+        // Then
+        assertEquals(100, samples[SAMPLES / 2], 3);
+        // One sigma above the median, e^0.5 times it, is the 84th percentile
+        assertEquals(100 * Math.exp(0.5), samples[(int) (SAMPLES * 0.8413)], 5);
+        assertTrue(samples[0] > 0);
+    }
+
+    @Test
+    @DisplayName("Should add the tail latency to the configured share of requests")
+    void testSampleMillis_Tail() {
+        // Given
+        final var latency = new FaultProfile.Latency(null, 10, 0, 0, 0.1, 1000);
+
+        // When
+        final var samples = sample(latency);
+
+        // Then
+        final var tail = Arrays.stream(samples).filter(millis -> millis == 1010).count();
+        assertEquals(SAMPLES, tail + Arrays.stream(samples).filter(millis -> millis == 10).count());
+        assertEquals(0.1, (double) tail / SAMPLES, 0.01);
+    }
+
+    @Test
+    @DisplayName("Should prefer an operation's own latency and fall back to the profile's")
+    void testLatencyOf_PerOperation() {
+        // Given
+        final var fallback = new FaultProfile.Latency(null, 10, 0, 0, 0, 0);
+        final var slow = new FaultProfile.Latency(null, 500, 0, 0, 0, 0);
+        final var profile = new FaultProfile(fallback, Map.of("getEmployees", slow), 0, null, 0, 0, 0, 0);
+
+        // Then
+        assertSame(slow, profile.latencyOf("getEmployees"));
+        assertSame(fallback, profile.latencyOf("getEmployeeById"));
+        assertNull(FaultProfile.NONE.latencyOf("getEmployees"));
+        assertEquals(503, profile.errorStatus());
+    }
+
+    private long[] sample(FaultProfile.Latency latency) {
+        final var samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = latency.sampleMillis(random);
+        }
+        return samples;
+    }
+}
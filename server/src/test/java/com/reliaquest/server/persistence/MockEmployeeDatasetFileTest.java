@@ -0,0 +1,69 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for MockEmployeeDatasetFile
+ */
+@DisplayName("MockEmployeeDatasetFile Unit Tests")
+class MockEmployeeDatasetFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should read back the seed, locale and roster it was written with")
+    void testWriteThenRead_RoundTrip() {
+        // Given
+        final var path = directory.resolve("employees.dataset");
+        final var dataset = new MockEmployeeDatasetFile.Dataset(
+                42, Locale.forLanguageTag("de-DE"), List.of(employee("Alice"), employee("Bob")));
+
+        // When
+        MockEmployeeDatasetFile.write(path, dataset);
+        final var read = MockEmployeeDatasetFile.read(path);
+
+        // Then
+        assertEquals(dataset, read.orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should read a file in an older format as absent so it is regenerated")
+    void testRead_OlderFormat() throws IOException {
+        // Given
+        final var path = directory.resolve("employees.dataset");
+        try (final var out = new DataOutputStream(Files.newOutputStream(path))) {
+            out.writeInt(0x4D454453);
+            out.writeInt(1);
+            out.writeLong(42);
+            out.writeInt(0);
+        }
+
+        // When & Then
+        assertTrue(MockEmployeeDatasetFile.read(path).isEmpty());
+        assertTrue(MockEmployeeDatasetFile.read(directory.resolve("missing.dataset")).isEmpty());
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50000)
+                .age(30)
+                .title("Developer")
+                .email(name.toLowerCase(Locale.ROOT) + "@company.com")
+                .build();
+    }
+}
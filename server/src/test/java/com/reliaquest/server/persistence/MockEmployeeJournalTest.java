@@ -0,0 +1,194 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Recovery tests for MockEmployeeJournal
+ */
+@DisplayName("MockEmployeeJournal Recovery Tests")
+class MockEmployeeJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should replay the snapshot and every journaled change in order")
+    void testRecover_ReplaysJournal() throws IOException {
+        // Given
+        final var alice = employee("Alice");
+        final var bob = employee("Bob");
+        final var carol = employee("Carol");
+        journal(store -> {
+            store.add(alice);
+            store.add(bob);
+            store.removeById(alice.getId());
+            store.add(carol);
+        });
+
+        // When
+        final var recovered = recover();
+
+        // Then
+        assertEquals(List.of(bob, carol), recovered.snapshot().employees());
+    }
+
+    @Test
+    @DisplayName("Should stop at a torn record at the end of the log")
+    void testRecover_TornTail() throws IOException {
+        // Given
+        final var alice = employee("Alice");
+        final var bob = employee("Bob");
+        journal(store -> {
+            store.add(alice);
+            store.add(bob);
+        });
+        final var segment = directory.resolve("wal-0.log");
+        final var bytes = Files.readAllBytes(segment);
+        Files.write(segment, Arrays.copyOf(bytes, bytes.length - 3));
+
+        // When
+        final var recovered = recover();
+
+        // Then
+        assertEquals(List.of(alice), recovered.snapshot().employees());
+    }
+
+    @Test
+    @DisplayName("Should treat an impossible record length as a torn record instead of allocating it")
+    void testRecover_CorruptLength() throws IOException {
+        // Given
+        final var alice = employee("Alice");
+        journal(store -> store.add(alice));
+        Files.write(
+                directory.resolve("wal-0.log"),
+                ByteBuffer.allocate(8).putInt(Integer.MAX_VALUE).putInt(0).array(),
+                StandardOpenOption.APPEND);
+
+        // When
+        final var recovered = recover();
+
+        // Then
+        assertEquals(List.of(alice), recovered.snapshot().employees());
+    }
+
+    @Test
+    @DisplayName("Should discard records from the first checksum mismatch on")
+    void testRecover_ChecksumMismatch() throws IOException {
+        // Given
+        final var alice = employee("Alice");
+        final var bob = employee("Bob");
+        final var carol = employee("Carol");
+        journal(store -> {
+            store.add(alice);
+            store.add(bob);
+            store.add(carol);
+        });
+        final var segment = directory.resolve("wal-0.log");
+        final var bytes = Files.readAllBytes(segment);
+        final var secondRecord = recordEnd(bytes, 0);
+        // Flip a bit in the payload of the second record
+        bytes[secondRecord + Integer.BYTES * 2 + 5] ^= 1;
+        Files.write(segment, bytes);
+
+        // When
+        final var recovered = recover();
+
+        // Then
+        assertEquals(List.of(alice), recovered.snapshot().employees());
+    }
+
+    @Test
+    @DisplayName("Should replay both segments after a crash between rotation and the new snapshot")
+    void testRecover_CrashBetweenRotationAndSnapshot() throws IOException {
+        // Given
+        final var alice = employee("Alice");
+        final var bob = employee("Bob");
+        journal(store -> {
+            store.add(alice);
+            store.add(bob);
+            store.removeById(alice.getId());
+        });
+        // Rotation closed wal-0 after the first record and opened wal-1, but snapshot-1 was never written
+        final var bytes = Files.readAllBytes(directory.resolve("wal-0.log"));
+        final var rotatedAt = recordEnd(bytes, 0);
+        Files.write(directory.resolve("wal-0.log"), Arrays.copyOfRange(bytes, 0, rotatedAt));
+        Files.write(directory.resolve("wal-1.log"), Arrays.copyOfRange(bytes, rotatedAt, bytes.length));
+        Files.write(directory.resolve("snapshot-1.dat123.tmp"), new byte[] {1, 2, 3});
+
+        // When
+        final var recovered = recover();
+
+        // Then
+        assertEquals(List.of(bob), recovered.snapshot().employees());
+    }
+
+    @Test
+    @DisplayName("Should report an empty directory as nothing to recover")
+    void testRecover_EmptyDirectory() {
+        // Given
+        final var journal = new MockEmployeeJournal(directory, Duration.ZERO, Duration.ofHours(1));
+
+        // When
+        final var recovered = journal.recover(new MockEmployeeStore());
+
+        // Then
+        assertFalse(recovered);
+    }
+
+    /*
+     * Runs the writes against a freshly journaled store and waits until they are durable.
+     */
+    private void journal(StoreWrites writes) {
+        final var store = new MockEmployeeStore();
+        try (final var journal = new MockEmployeeJournal(directory, Duration.ZERO, Duration.ofHours(1))) {
+            journal.attach(store);
+            writes.apply(store);
+            journal.awaitDurable();
+        }
+    }
+
+    private MockEmployeeStore recover() {
+        final var store = new MockEmployeeStore();
+        final var journal = new MockEmployeeJournal(directory, Duration.ZERO, Duration.ofHours(1));
+        assertTrue(journal.recover(store));
+        return store;
+    }
+
+    /*
+     * Offset just past the record starting at {@code offset}: length and checksum headers, then the payload.
+     */
+    private static int recordEnd(byte[] segment, int offset) {
+        return offset + Integer.BYTES * 2 + ByteBuffer.wrap(segment, offset, Integer.BYTES).getInt();
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50000)
+                .age(30)
+                .title("Developer")
+                .email(name.toLowerCase() + "@company.com")
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface StoreWrites {
+        void apply(MockEmployeeStore store);
+    }
+}
@@ -0,0 +1,123 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for FuzzyNameIndex
+ */
+@DisplayName("FuzzyNameIndex Unit Tests")
+class FuzzyNameIndexTest {
+
+    private final MockEmployeeStore store = new MockEmployeeStore();
+    private final FuzzyNameIndex index = new FuzzyNameIndex(store);
+
+    private final MockEmployee johnSmith = employee("John Smith");
+    private final MockEmployee joanSmithers = employee("Joan Smithers");
+    private final MockEmployee jonathanSmyth = employee("Jonathan Smyth");
+    private final MockEmployee mariaGarcia = employee("Maria Garcia");
+
+    @BeforeEach
+    void setUp() {
+        store.subscribe(index);
+        store.addAll(List.of(johnSmith, joanSmithers, jonathanSmyth, mariaGarcia));
+    }
+
+    @Test
+    @DisplayName("Should tolerate one edit up to four letters, two up to eight and three beyond")
+    void testMaxDistance_Thresholds() {
+        // Then
+        assertEquals(1, FuzzyNameIndex.maxDistance(1));
+        assertEquals(1, FuzzyNameIndex.maxDistance(4));
+        assertEquals(2, FuzzyNameIndex.maxDistance(5));
+        assertEquals(2, FuzzyNameIndex.maxDistance(8));
+        assertEquals(3, FuzzyNameIndex.maxDistance(9));
+        assertEquals(3, FuzzyNameIndex.maxDistance(32));
+    }
+
+    @Test
+    @DisplayName("Should match query tokens only within the edits their length allows")
+    void testSearch_EditThresholds() {
+        // When
+        final var oneEditShort = index.search("jhn", 10);
+        final var twoEditsShort = index.search("jn", 10);
+        final var twoEditsMedium = index.search("garcai", 10);
+        final var threeEditsMedium = index.search("jxnxthxn", 10);
+        final var threeEditsLong = index.search("jonnathaann", 10);
+
+        // Then
+        assertEquals(List.of(johnSmith), oneEditShort);
+        assertTrue(twoEditsShort.isEmpty());
+        assertEquals(List.of(mariaGarcia), twoEditsMedium);
+        assertTrue(threeEditsMedium.isEmpty());
+        assertEquals(List.of(jonathanSmyth), threeEditsLong);
+    }
+
+    @Test
+    @DisplayName("Should require every query token to match and rank by the summed distance, then by name")
+    void testSearch_MultiTokenIntersection() {
+        // When
+        final var johnSmithQuery = index.search("john smith", 10);
+        final var smithOnly = index.search("smith", 10);
+        final var joanQuery = index.search("joan", 10);
+        final var noSurname = index.search("john garcia", 10);
+
+        // Then
+        assertEquals(List.of(johnSmith), johnSmithQuery);
+        assertEquals(List.of(johnSmith, jonathanSmyth), smithOnly);
+        assertEquals(List.of(joanSmithers, johnSmith), joanQuery);
+        assertTrue(noSurname.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should stop matching a removed employee")
+    void testOnRemoved_DropsEmployee() {
+        // When
+        // The store still holds John, so only the index's own postings can exclude him
+        index.onRemoved(johnSmith);
+
+        // Then
+        assertEquals(List.of(jonathanSmyth), index.search("smith", 10));
+        assertEquals(List.of(joanSmithers), index.search("joan", 10));
+        store.add(johnSmith);
+        assertEquals(List.of(johnSmith, jonathanSmyth), index.search("smith", 10));
+    }
+
+    @Test
+    @DisplayName("Should return only the best matches up to the limit")
+    void testSearch_Limit() {
+        // Given
+        final var more = new ArrayList<MockEmployee>();
+        for (int i = 0; i < 50; i++) {
+            more.add(employee("Smyth Number" + i));
+        }
+        store.addAll(more);
+
+        // When
+        final var best = index.search("smith", 2);
+        final var none = index.search("smith", 0);
+
+        // Then
+        assertEquals(johnSmith, best.get(0));
+        assertEquals(2, best.size());
+        assertEquals("Jonathan Smyth", best.get(1).getName());
+        assertTrue(none.isEmpty());
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50000)
+                .age(30)
+                .title("Developer")
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeAggregates;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for MockEmployeeAggregator
+ */
+@DisplayName("MockEmployeeAggregator Unit Tests")
+class MockEmployeeAggregatorTest {
+
+    private final MockEmployeeStore store = new MockEmployeeStore();
+    private final MockEmployeeIndex index = new MockEmployeeIndex(store);
+    private final MockEmployeeAggregator aggregator = new MockEmployeeAggregator(store, index);
+
+    @BeforeEach
+    void setUp() {
+        store.subscribe(index);
+        store.subscribe(aggregator);
+    }
+
+    @Test
+    @DisplayName("Should keep totals, max salary and top earners correct after deletes")
+    void testAggregate_AfterDeletes() {
+        // Given
+        final var alice = employee("Alice", 40000, "Engineer");
+        final var bob = employee("Bob", 50000, "Manager");
+        final var carol = employee("Carol", 60000, "Engineer");
+        final var dave = employee("Dave", 70000, "Engineer");
+        store.addAll(List.of(alice, bob, carol, dave));
+
+        // When
+        store.removeById(dave.getId());
+        store.removeById(bob.getId());
+        final var aggregates = aggregator.aggregate(10);
+
+        // Then
+        assertEquals(store.snapshot().version(), aggregates.version());
+        assertEquals(2, aggregates.count());
+        assertEquals(100000, aggregates.salarySum());
+        assertEquals(60000, aggregates.maxSalary());
+        assertEquals(List.of(carol, alice), aggregates.topEarners());
+        assertEquals(Map.of("Engineer", new MockEmployeeAggregates.TitleAggregates(2, 50000.0)), aggregates.titles());
+    }
+
+    @Test
+    @DisplayName("Should refill the top earners from the index when a deleted one leaves the full list short")
+    void testAggregate_TopRefilledAfterDelete() {
+        // Given
+        final var roster = new ArrayList<MockEmployee>();
+        for (int i = 0; i < MockEmployeeAggregator.MAX_TOP + 100; i++) {
+            roster.add(employee("Employee" + i, 30000 + i * 10, "Engineer"));
+        }
+        store.addAll(roster);
+        final var highest = roster.get(roster.size() - 1);
+        final var lowest = roster.get(0);
+
+        // When
+        store.removeById(highest.getId());
+        store.removeById(lowest.getId());
+        store.add(employee("Newcomer", 1000000, "Director"));
+        final var aggregates = aggregator.aggregate(MockEmployeeAggregator.MAX_TOP);
+
+        // Then
+        assertEquals(1000000, aggregates.maxSalary());
+        assertEquals(index.topBySalary(MockEmployeeAggregator.MAX_TOP), aggregates.topEarners());
+        assertEquals(MockEmployeeAggregator.MAX_TOP, aggregates.topEarners().size());
+        assertFalse(aggregates.topEarners().contains(highest));
+    }
+
+    @Test
+    @DisplayName("Should publish the aggregates with the roster version they were computed from")
+    void testAggregate_PublishedWithSnapshot() {
+        // Given
+        final var versionsSeenByListeners = new ArrayList<Long>();
+        store.subscribe(new MockEmployeeStore.Listener() {
+            @Override
+            public void onPublished(MockEmployeeStore.Snapshot snapshot) {
+                versionsSeenByListeners.add(store.snapshot().version());
+            }
+        });
+        final var subscribedAt = store.snapshot().version();
+
+        // When
+        store.add(employee("Alice", 40000, "Engineer"));
+        final var snapshot = store.snapshot();
+
+        // Then
+        assertEquals(List.of(subscribedAt, subscribedAt), versionsSeenByListeners);
+        final var aggregates = snapshot.view(MockEmployeeAggregates.class).orElseThrow();
+        assertEquals(snapshot.version(), aggregates.version());
+        assertEquals(snapshot.size(), aggregates.count());
+        assertThrows(IllegalStateException.class, () -> snapshot.attach(String.class, "too late"));
+    }
+
+    private static MockEmployee employee(String name, int salary, String title) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title(title)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for MockEmployeeGenerator
+ */
+@DisplayName("MockEmployeeGenerator Unit Tests")
+class MockEmployeeGeneratorTest {
+
+    private static final int COUNT = MockEmployeeGenerator.CHUNK_SIZE + 5;
+
+    private final MockEmployeeGenerator generator = new MockEmployeeGenerator(Locale.US);
+
+    @Test
+    @DisplayName("Should generate the same roster twice from one seed, whatever the default locale")
+    void testGenerate_SameSeedSameRoster() {
+        // When
+        final var first = generator.generate(COUNT, 42);
+        // Turkish lower-cases 'I' to a dotless 'i', the classic default-locale trap
+        final var second = withDefaultLocale(Locale.forLanguageTag("tr-TR"), () -> generator.generate(COUNT, 42));
+
+        // Then
+        assertEquals(COUNT, first.size());
+        assertEquals(first, second);
+        assertNotEquals(first, generator.generate(COUNT, 43));
+    }
+
+    private static <T> T withDefaultLocale(Locale locale, Supplier<T> action) {
+        final var defaultLocale = Locale.getDefault();
+        Locale.setDefault(locale);
+        try {
+            return action.get();
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for MockEmployeeIndex
+ */
+@DisplayName("MockEmployeeIndex Unit Tests")
+class MockEmployeeIndexTest {
+
+    private final MockEmployeeStore store = new MockEmployeeStore();
+    private final MockEmployeeIndex index = new MockEmployeeIndex(store);
+
+    private final MockEmployee alice = employee("Alice Smith", 40000, 25, "Engineer");
+    private final MockEmployee bob = employee("Bob Allen", 50000, 35, "Manager");
+    private final MockEmployee carol = employee("Carol King", 60000, 45, "Engineer");
+    private final MockEmployee dave = employee("Dave Brown", 70000, 55, "Analyst");
+
+    @BeforeEach
+    void setUp() {
+        store.subscribe(index);
+        store.addAll(List.of(alice, bob, carol, dave));
+    }
+
+    @Test
+    @DisplayName("Should answer inclusive salary ranges in salary order")
+    void testQuery_SalaryRange() {
+        // When
+        final var between = index.query(query(null, 50000, 60000, null, null, null));
+        final var atLeast = index.query(query(null, 60000, null, null, null, null));
+        final var atMost = index.query(query(null, null, 40000, null, null, null));
+        final var inverted = index.query(query(null, 60000, 50000, null, null, null));
+
+        // Then
+        assertEquals(List.of(bob, carol), between);
+        assertEquals(List.of(carol, dave), atLeast);
+        assertEquals(List.of(alice), atMost);
+        assertTrue(inverted.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should answer age ranges and apply the remaining criteria to the candidates")
+    void testQuery_AgeRangeWithTitle() {
+        // When
+        final var engineersOver30 = index.query(query(null, null, null, 30, null, "engineer"));
+        final var middleAged = index.query(query(null, null, null, 35, 45, null));
+
+        // Then
+        assertEquals(List.of(carol), engineersOver30);
+        assertEquals(List.of(bob, carol), middleAged);
+    }
+
+    @Test
+    @DisplayName("Should match names by case-insensitive substring through the trigram postings")
+    void testQuery_NameTrigrams() {
+        // When
+        final var smith = index.query(query("SMITH", null, null, null, null, null));
+        final var allen = index.query(query("b all", null, null, null, null, null));
+        final var none = index.query(query("xyz", null, null, null, null, null));
+
+        // Then
+        assertEquals(List.of(alice), smith);
+        assertEquals(List.of(bob), allen);
+        assertTrue(none.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should match names shorter than a trigram by scanning the roster")
+    void testQuery_NameShorterThanGram() {
+        // When
+        final var al = index.query(query("al", null, null, null, null, null));
+        final var single = index.query(query("K", null, null, null, null, null));
+        final var shortWithSalary = index.query(query("al", 45000, null, null, null, null));
+
+        // Then
+        assertEquals(List.of(alice, bob), al);
+        assertEquals(List.of(carol), single);
+        assertEquals(List.of(bob), shortWithSalary);
+    }
+
+    @Test
+    @DisplayName("Should drop every posting of a removed employee")
+    void testOnRemoved_DropsPostings() {
+        // When
+        // The store still holds Carol, so only the index's own postings can exclude her
+        index.onRemoved(carol);
+
+        // Then
+        assertTrue(index.query(query("carol", null, null, null, null, null)).isEmpty());
+        assertEquals(List.of(alice), index.query(query(null, null, null, null, null, "Engineer")));
+        assertEquals(List.of(bob), index.query(query(null, 50000, 60000, null, null, null)));
+        assertEquals(List.of(dave), index.query(query(null, null, null, 40, null, null)));
+        assertEquals(List.of(dave, bob, alice), index.topBySalary(10));
+    }
+
+    @Test
+    @DisplayName("Should keep the highest earners in step with deletes")
+    void testTopBySalary_AfterDelete() {
+        // When
+        store.removeById(dave.getId());
+
+        // Then
+        assertEquals(Optional.of(60000), index.maxSalary());
+        assertEquals(List.of(carol, bob), index.topBySalary(2));
+    }
+
+    private static MockEmployeeIndex.Query query(
+            String name, Integer minSalary, Integer maxSalary, Integer minAge, Integer maxAge, String title) {
+        return new MockEmployeeIndex.Query(name, minSalary, maxSalary, minAge, maxAge, title);
+    }
+
+    private static MockEmployee employee(String name, int salary, int age, String title) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(age)
+                .title(title)
+                .build();
+    }
+}
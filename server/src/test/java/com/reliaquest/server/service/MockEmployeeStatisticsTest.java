@@ -0,0 +1,69 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for MockEmployeeStatistics
+ */
+@DisplayName("MockEmployeeStatistics Unit Tests")
+class MockEmployeeStatisticsTest {
+
+    private final MockEmployeeStore store = new MockEmployeeStore();
+    private final MockEmployeeStatistics statistics = new MockEmployeeStatistics(store, 0.01);
+
+    private final MockEmployee alice = employee("Alice", 40000, 25, "Engineer");
+    private final MockEmployee bob = employee("Bob", 50000, 35, "Manager");
+    private final MockEmployee carol = employee("Carol", 60000, 45, "Engineer");
+
+    @BeforeEach
+    void setUp() {
+        store.subscribe(statistics);
+        store.addAll(List.of(alice, bob, carol));
+    }
+
+    @Test
+    @DisplayName("Should materialize the statistics of each published version with it")
+    void testStats_MatchPublishedVersion() {
+        // When
+        final var stats = statistics.stats();
+
+        // Then
+        assertEquals(store.snapshot().version(), stats.version());
+        assertSame(stats, statistics.stats());
+        assertEquals(3, stats.overall().count());
+        assertEquals(50000.0, stats.overall().salary().mean());
+        assertEquals(2, stats.titles().get("Engineer").count());
+    }
+
+    @Test
+    @DisplayName("Should drop a deleted employee from the overall and title distributions")
+    void testStats_AfterDelete() {
+        // When
+        store.removeById(bob.getId());
+        final var stats = statistics.stats();
+
+        // Then
+        assertEquals(store.snapshot().version(), stats.version());
+        assertEquals(2, stats.overall().count());
+        assertEquals(50000.0, stats.overall().salary().mean());
+        assertFalse(stats.titles().containsKey("Manager"));
+        assertEquals(List.of("Engineer"), List.copyOf(stats.titles().keySet()));
+    }
+
+    private static MockEmployee employee(String name, int salary, int age, String title) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(age)
+                .title(title)
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for MockEmployeeStore
+ */
+@DisplayName("MockEmployeeStore Unit Tests")
+class MockEmployeeStoreTest {
+
+    private final MockEmployeeStore store = new MockEmployeeStore();
+
+    private final MockEmployee alice = employee(UUID.randomUUID(), "Alice");
+    private final MockEmployee bob = employee(UUID.randomUUID(), "Bob");
+    private final MockEmployee otherAlice = employee(UUID.randomUUID(), "alice");
+
+    private boolean failing;
+
+    @BeforeEach
+    void setUp() {
+        store.addAll(List.of(alice, bob, otherAlice));
+        store.subscribe(new MockEmployeeStore.Listener() {
+            @Override
+            public void onPublished(MockEmployeeStore.Snapshot snapshot) {
+                if (failing) {
+                    throw new IllegalStateException("listener failed");
+                }
+            }
+        });
+        failing = true;
+    }
+
+    @Test
+    @DisplayName("Should leave the indexes as they were when a listener rejects an add")
+    void testAddAll_ListenerFails() {
+        // Given
+        final var version = store.snapshot().version();
+        final var carol = employee(UUID.randomUUID(), "Carol");
+        final var renamedBob = employee(bob.getId(), "Robert");
+
+        // When
+        assertThrows(IllegalStateException.class, () -> store.addAll(List.of(carol, renamedBob)));
+
+        // Then
+        assertEquals(version, store.snapshot().version());
+        assertEquals(List.of(alice, bob, otherAlice), store.snapshot().employees());
+        assertEquals(Optional.empty(), store.findById(carol.getId()));
+        assertEquals(Optional.of(bob), store.findById(bob.getId()));
+        assertEquals(Optional.of(bob), store.findByName("Bob"));
+        assertEquals(Optional.empty(), store.findByName("Robert"));
+    }
+
+    @Test
+    @DisplayName("Should keep a removed employee, and the earliest of a shared name first, when a listener rejects it")
+    void testRemove_ListenerFails() {
+        // Given
+        final var version = store.snapshot().version();
+
+        // When
+        assertThrows(IllegalStateException.class, () -> store.removeById(alice.getId()));
+
+        // Then
+        assertEquals(version, store.snapshot().version());
+        assertEquals(Optional.of(alice), store.findById(alice.getId()));
+        assertEquals(Optional.of(alice), store.findByName("ALICE"));
+
+        // When
+        failing = false;
+        store.removeByName("alice");
+
+        // Then
+        assertEquals(Optional.of(otherAlice), store.findByName("alice"));
+        assertEquals(List.of(bob, otherAlice), store.snapshot().employees());
+    }
+
+    @Test
+    @DisplayName("Should reject a batch with a missing id before changing anything")
+    void testAddAll_MissingId() {
+        // Given
+        failing = false;
+        final var carol = employee(UUID.randomUUID(), "Carol");
+
+        // When
+        assertThrows(NullPointerException.class, () -> store.addAll(List.of(carol, employee(null, "Nobody"))));
+
+        // Then
+        assertEquals(Optional.empty(), store.findById(carol.getId()));
+        assertEquals(Optional.empty(), store.findByName("Carol"));
+        assertEquals(3, store.size());
+    }
+
+    private static MockEmployee employee(UUID id, String name) {
+        return MockEmployee.builder()
+                .id(id)
+                .name(name)
+                .salary(50000)
+                .age(30)
+                .title("Developer")
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for QuantileSketch
+ */
+@DisplayName("QuantileSketch Unit Tests")
+class QuantileSketchTest {
+
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double[] QUANTILES = {0, 0.01, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99, 0.999, 1};
+
+    @Test
+    @DisplayName("Should answer every quantile within the relative accuracy of the exact value")
+    void testQuantile_WithinRelativeAccuracy() {
+        // Given
+        final var random = new Random(42);
+        final var values = new double[100_000];
+        final var sketch = new QuantileSketch(RELATIVE_ACCURACY);
+        for (int i = 0; i < values.length; i++) {
+            // Log-normal around 80,000 with a long tail, like salaries
+            values[i] = Math.round(80_000 * Math.exp(0.6 * random.nextGaussian()));
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        // Then
+        assertEquals(values.length, sketch.count());
+        for (final var q : QUANTILES) {
+            final var exact = values[(int) Math.floor(q * (values.length - 1))];
+            final var estimate = sketch.quantile(q);
+            assertTrue(
+                    Math.abs(estimate - exact) <= RELATIVE_ACCURACY * exact * (1 + 1e-9),
+                    "q=" + q + ": estimate " + estimate + " is not within 1% of " + exact);
+        }
+    }
+
+    @Test
+    @DisplayName("Should give the same answers after removes and a merge as a sketch built from the result")
+    void testRemoveThenMerge_StaysExact() {
+        // Given
+        final var random = new Random(7);
+        final var kept = new QuantileSketch(RELATIVE_ACCURACY);
+        final var merged = new QuantileSketch(RELATIVE_ACCURACY);
+        final var other = new QuantileSketch(RELATIVE_ACCURACY);
+        final var expected = new QuantileSketch(RELATIVE_ACCURACY);
+        final var removed = new int[5_000];
+        for (int i = 0; i < 10_000; i++) {
+            final var value = 20 + random.nextInt(50);
+            kept.add(value);
+            expected.add(value);
+        }
+        for (int i = 0; i < removed.length; i++) {
+            removed[i] = 1 + random.nextInt(1_000_000);
+            kept.add(removed[i]);
+        }
+        for (int i = 0; i < 3_000; i++) {
+            final var value = 30_000 + random.nextInt(200_000);
+            other.add(value);
+            expected.add(value);
+        }
+
+        // When
+        for (final var value : removed) {
+            kept.remove(value);
+        }
+        merged.merge(kept);
+        merged.merge(other);
+
+        // Then
+        assertEquals(expected.count(), merged.count());
+        for (final var q : QUANTILES) {
+            assertEquals(expected.quantile(q), merged.quantile(q), "q=" + q);
+        }
+    }
+
+    @Test
+    @DisplayName("Should answer nothing when empty and zero for values of zero or below")
+    void testQuantile_EmptyAndNonPositive() {
+        // Given
+        final var sketch = new QuantileSketch(RELATIVE_ACCURACY);
+        assertNull(sketch.quantile(0.5));
+
+        // When
+        sketch.add(0);
+        sketch.add(-5);
+        sketch.add(100);
+
+        // Then
+        assertEquals(0.0, sketch.quantile(0));
+        assertEquals(0.0, sketch.quantile(0.5));
+        assertEquals(100, sketch.quantile(1), RELATIVE_ACCURACY * 100);
+    }
+
+    @Test
+    @DisplayName("Should only merge sketches of the same accuracy")
+    void testMerge_DifferentAccuracy() {
+        // Given
+        final var sketch = new QuantileSketch(RELATIVE_ACCURACY);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> sketch.merge(new QuantileSketch(0.02)));
+    }
+}
@@ -0,0 +1,141 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.FaultProfile;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.coyote.CloseNowException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit tests for FaultInjectionFilter and FaultInjector
+ */
+@DisplayName("FaultInjectionFilter Unit Tests")
+class FaultInjectionFilterTest {
+
+    private final FaultInjector faultInjector = new FaultInjector();
+    private final FaultInjectionFilter filter = new FaultInjectionFilter(faultInjector, request -> null);
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final MockFilterChain chain = new MockFilterChain();
+
+    @Test
+    @DisplayName("Should pass requests through untouched once the injector is reset")
+    void testReset_PassesThrough() throws Exception {
+        // Given
+        faultInjector.update(profile(1.0, 0, 0, 0));
+
+        // When
+        faultInjector.reset();
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertSame(FaultProfile.NONE, faultInjector.profile());
+        assertSame(response, chain.getResponse());
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should answer with the configured status instead of handling the request")
+    void testErrorRate_InjectsStatus() throws Exception {
+        // Given
+        faultInjector.update(new FaultProfile(null, null, 1.0, 502, 0, 0, 0, 0));
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertEquals(502, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    @DisplayName("Should never inject into the admin endpoint")
+    void testAdminPath_NeverFaulted() throws Exception {
+        // Given
+        faultInjector.update(profile(1.0, 1.0, 0, 0));
+        final var adminRequest = new MockHttpServletRequest("PUT", FaultInjector.ADMIN_PATH);
+
+        // When
+        filter.doFilter(adminRequest, response, chain);
+
+        // Then
+        assertSame(adminRequest, chain.getRequest());
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should commit a truncated body promising far more, then abort the response")
+    void testResetRate_CutsOffResponse() {
+        // Given
+        faultInjector.update(profile(0, 1.0, 0, 0));
+
+        // When
+        assertThrows(CloseNowException.class, () -> filter.doFilter(request, response, chain));
+
+        // Then
+        assertNull(chain.getRequest());
+        assertTrue(response.isCommitted());
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals(64 * 1024, response.getContentLength());
+        assertEquals("{\"data\":[", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Should wait an operation's latency before handling it")
+    void testLatency_Delays() throws Exception {
+        // Given
+        final var latency = new FaultProfile.Latency(null, 50, 0, 0, 0, 0);
+        faultInjector.update(new FaultProfile(latency, Map.of(), 0, null, 0, 0, 0, 0));
+
+        // When
+        final var started = System.nanoTime();
+        filter.doFilter(request, response, chain);
+        final var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // Then
+        assertTrue(elapsedMillis >= 50, "took " + elapsedMillis + " ms");
+        assertSame(request, chain.getRequest());
+    }
+
+    @Test
+    @DisplayName("Should drip a body written through the writer, and send all of it")
+    void testDrip_ShapesWriter() throws Exception {
+        // Given
+        faultInjector.update(profile(0, 0, 4, 20));
+        final var body = "{\"name\":\"Zo\u00eb\"}";
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        final var writingChain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                res.getWriter().write(body);
+            }
+        });
+
+        // When
+        final var started = System.nanoTime();
+        filter.doFilter(request, response, writingChain);
+        final var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // Then
+        assertEquals(body, response.getContentAsString());
+        // 15 bytes in chunks of 4, each followed by a 20 ms pause
+        assertTrue(elapsedMillis >= 80, "took " + elapsedMillis + " ms");
+    }
+
+    private static FaultProfile profile(
+            double errorRate, double resetRate, int dripChunkBytes, long dripIntervalMillis) {
+        return new FaultProfile(null, null, errorRate, null, resetRate, 0, dripChunkBytes, dripIntervalMillis);
+    }
+}
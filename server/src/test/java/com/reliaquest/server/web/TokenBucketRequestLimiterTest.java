@@ -0,0 +1,120 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.config.RateLimitProperties;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for TokenBucketRequestLimiter
+ */
+@DisplayName("TokenBucketRequestLimiter Unit Tests")
+class TokenBucketRequestLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    @Test
+    @DisplayName("Should charge each operation its cost and round the Retry-After up to whole seconds")
+    void testTryAcquire_RetryAfter() {
+        // Given
+        final var limiter = limiter(RateLimitProperties.Scope.CLIENT, 4, 1, 100);
+
+        // When
+        final var create = limiter.tryAcquire("alice", "createEmployee");
+        final var list = limiter.tryAcquire("alice", "getEmployees");
+        final var rejected = limiter.tryAcquire("alice", "createEmployee");
+
+        // Then
+        assertEquals(0L, create);
+        assertEquals(0L, list);
+        assertEquals(TimeUnit.SECONDS.toNanos(3), rejected);
+        assertEquals(3, RequestLimiter.retryAfterSeconds(rejected));
+
+        // When
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        final var sooner = limiter.tryAcquire("alice", "createEmployee");
+
+        // Then
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(2500), sooner);
+        assertEquals(3, RequestLimiter.retryAfterSeconds(sooner));
+        assertEquals(1, RequestLimiter.retryAfterSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Should share a bucket per client, per route or per client and route as scoped")
+    void testTryAcquire_Scopes() {
+        // Given
+        final var perClient = limiter(RateLimitProperties.Scope.CLIENT, 1, 1, 100);
+        final var perRoute = limiter(RateLimitProperties.Scope.ROUTE, 1, 1, 100);
+        final var perClientRoute = limiter(RateLimitProperties.Scope.CLIENT_ROUTE, 1, 1, 100);
+
+        // When & Then
+        assertEquals(0L, perClient.tryAcquire("alice", "getEmployees"));
+        assertTrue(perClient.tryAcquire("alice", "getEmployeeById") > 0);
+        assertEquals(0L, perClient.tryAcquire("bob", "getEmployees"));
+
+        assertEquals(0L, perRoute.tryAcquire("alice", "getEmployees"));
+        assertTrue(perRoute.tryAcquire("bob", "getEmployees") > 0);
+        assertEquals(0L, perRoute.tryAcquire("bob", "getEmployeeById"));
+
+        assertEquals(0L, perClientRoute.tryAcquire("alice", "getEmployees"));
+        assertEquals(0L, perClientRoute.tryAcquire("alice", "getEmployeeById"));
+        assertEquals(0L, perClientRoute.tryAcquire("bob", "getEmployees"));
+        assertTrue(perClientRoute.tryAcquire("alice", "getEmployees") > 0);
+    }
+
+    @Test
+    @DisplayName("Should drop a bucket once idle long enough to be full again, and start it over full")
+    void testBuckets_ExpireWhenRefilled() {
+        // Given
+        final var limiter = limiter(RateLimitProperties.Scope.CLIENT, 4, 2, 100);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("client" + i, "getEmployees");
+        }
+        assertEquals(0L, limiter.tryAcquire("alice", "createEmployee"));
+        assertEquals(11, limiter.bucketCount());
+
+        // When
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1999));
+        final var beforeFullRefill = limiter.bucketCount();
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(2));
+        final var afterFullRefill = limiter.bucketCount();
+
+        // Then
+        assertEquals(11, beforeFullRefill);
+        assertEquals(0, afterFullRefill);
+        assertEquals(0L, limiter.tryAcquire("alice", "createEmployee"));
+    }
+
+    @Test
+    @DisplayName("Should keep no more buckets than configured however many client ids are sent")
+    void testBuckets_Bounded() {
+        // Given
+        final var limiter = limiter(RateLimitProperties.Scope.CLIENT, 4, 1, 100);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("client" + i, "getEmployees");
+        }
+
+        // Then
+        assertTrue(limiter.bucketCount() <= 100, "kept " + limiter.bucketCount() + " buckets");
+    }
+
+    private TokenBucketRequestLimiter limiter(
+            RateLimitProperties.Scope scope, int capacity, double refillPerSecond, int maxBuckets) {
+        final var properties = new RateLimitProperties(
+                RateLimitProperties.Mode.TOKEN_BUCKET,
+                scope,
+                capacity,
+                refillPerSecond,
+                1,
+                Map.of("createEmployee", 3),
+                maxBuckets);
+        return new TokenBucketRequestLimiter(properties, now::get);
+    }
+}
@@ -0,0 +1,115 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for TokenBucket
+ */
+@DisplayName("TokenBucket Unit Tests")
+class TokenBucketTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    @Test
+    @DisplayName("Should admit a burst up to capacity, then report the wait for the next token")
+    void testTryAcquire_Burst() {
+        // Given
+        final var bucket = new TokenBucket(5, 10, now::get);
+
+        // When
+        final var admitted = new ArrayList<Long>();
+        for (int i = 0; i < 5; i++) {
+            admitted.add(bucket.tryAcquire(1));
+        }
+        final var rejected = bucket.tryAcquire(1);
+
+        // Then
+        admitted.forEach(wait -> assertEquals(0L, wait));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), rejected);
+    }
+
+    @Test
+    @DisplayName("Should refill fractionally with time and never beyond capacity")
+    void testTryAcquire_Refill() {
+        // Given
+        final var bucket = new TokenBucket(5, 10, now::get);
+        assertEquals(0L, bucket.tryAcquire(5));
+
+        // When
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+
+        // Then
+        assertEquals(0L, bucket.tryAcquire(1));
+        assertEquals(0L, bucket.tryAcquire(1));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(50), bucket.tryAcquire(1));
+
+        // When
+        now.addAndGet(TimeUnit.HOURS.toNanos(1));
+
+        // Then
+        assertEquals(0L, bucket.tryAcquire(5));
+        assertTrue(bucket.tryAcquire(1) > 0);
+    }
+
+    @Test
+    @DisplayName("Should drain a full bucket for a cost above capacity instead of never admitting it")
+    void testTryAcquire_CostAboveCapacity() {
+        // Given
+        final var bucket = new TokenBucket(5, 10, now::get);
+
+        // When
+        final var first = bucket.tryAcquire(50);
+        final var second = bucket.tryAcquire(50);
+
+        // Then
+        assertEquals(0L, first);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), second);
+    }
+
+    @Test
+    @DisplayName("Should hand out each token exactly once when threads race to consume and refill")
+    void testTryAcquire_Concurrent() throws InterruptedException {
+        // Given
+        final var bucket = new TokenBucket(1000, 100, now::get);
+
+        // When & Then
+        assertEquals(1000, race(bucket, 8, 500));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        // The second's refill is counted once, however many threads see it
+        assertEquals(100, race(bucket, 8, 500));
+    }
+
+    private static int race(TokenBucket bucket, int threads, int attemptsPerThread) throws InterruptedException {
+        final var start = new CountDownLatch(1);
+        final var done = new CountDownLatch(threads);
+        final var admitted = new AtomicInteger();
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                        try {
+                            start.await();
+                            for (int i = 0; i < attemptsPerThread; i++) {
+                                if (bucket.tryAcquire(1) == 0) {
+                                    admitted.incrementAndGet();
+                                }
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } finally {
+                            done.countDown();
+                        }
+                    })
+                    .start();
+        }
+        start.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        return admitted.get();
+    }
+}